@@ -4,6 +4,7 @@ import { useAuth } from '../../context/AuthContext';
 import { appService } from '../../services/appService';
 import { docService } from '../../services/docService';
 import { msgService } from '../../services/msgService';
+import { notificationService } from '../../services/notificationService';
 import { getDocsByCategory } from '../../utils/docConstants';
 import { DetailsSkeleton } from '../../components/common/Skeletons';
 import { ArrowLeft, UploadCloud, CheckCircle,Eye, FileText, Loader, Trash2, Send, MessageSquare, ShieldCheck, AlertCircle, XCircle } from 'lucide-react';
@@ -17,6 +18,7 @@ export default function ApplicationDetails() {
     const [app, setApp] = useState(null);
     const [uploadedDocs, setUploadedDocs] = useState([]);
     const [comments, setComments] = useState([]);
+    const [commentCursor, setCommentCursor] = useState(null);
     const [newMessage, setNewMessage] = useState("");
     const [loading, setLoading] = useState(true);
     const [uploading, setUploading] = useState(null);
@@ -28,6 +30,27 @@ export default function ApplicationDetails() {
         loadData();
     }, [id]);
 
+    // Live thread: new messages arrive over the stream instead of reloading the whole thread
+    useEffect(() => {
+        return msgService.streamComments(id, (comment) => setComments((prev) => mergeComments(prev, [comment])));
+    }, [id]);
+
+    // Applicants: apply staff actions (lock, document review, new pre-screen outcome) as they happen
+    useEffect(() => {
+        if (isStaff) return undefined;
+        return notificationService.stream((event) => {
+            if (String(event.applicationId) !== String(id)) return;
+            if (event.type === 'PRE_SCREEN') {
+                setApp((prev) => prev && { ...prev, preScreenResult: event.preScreenResult });
+            } else if (event.type === 'DOCUMENT_STATUS') {
+                setUploadedDocs((prev) => prev.map((d) => d.id === event.documentId ? { ...d, status: event.documentStatus } : d));
+                if (event.documentStatus === 'REJECTED') toast.error("A document was rejected by the bank");
+            } else if (event.type === 'LOCKED') {
+                toast("Your application is now under review by the bank");
+            }
+        });
+    }, [id, isStaff]);
+
     useEffect(() => {
         // Scroll to bottom whenever comments change
         chatEndRef.current?.scrollIntoView({ behavior: "smooth" });
@@ -38,11 +61,12 @@ export default function ApplicationDetails() {
             const [appData, docsData, commentsData] = await Promise.all([
                 appService.getById(id),
                 docService.list(id),
-                msgService.getComments(id)
+                msgService.getCommentPage(id)
             ]);
             setApp(appData);
             setUploadedDocs(docsData);
-            setComments(commentsData);
+            setComments((prev) => mergeComments(prev, commentsData.items));
+            setCommentCursor(commentsData.nextCursor);
         } catch (error) {
             toast.error("Failed to load application data");
         } finally {
@@ -50,6 +74,16 @@ export default function ApplicationDetails() {
         }
     };
 
+    const loadOlderComments = async () => {
+        try {
+            const page = await msgService.getCommentPage(id, { cursor: commentCursor });
+            setComments((prev) => mergeComments(prev, page.items));
+            setCommentCursor(page.nextCursor);
+        } catch (error) {
+            toast.error("Failed to load older messages");
+        }
+    };
+
     const handleDelete = async () => {
         if (!window.confirm("Are you sure you want to delete this application?")) return;
         try {
@@ -66,7 +100,7 @@ export default function ApplicationDetails() {
         if (!newMessage.trim()) return;
         try {
             const addedComment = await msgService.postComment(id, newMessage);
-            setComments([addedComment, ...comments]);
+            setComments((prev) => mergeComments(prev, [addedComment]));
             setNewMessage("");
         } catch (error) {
             toast.error("Failed to send message");
@@ -231,6 +265,14 @@ export default function ApplicationDetails() {
                                     );
                                 })
                             )}
+                            {commentCursor && (
+                                <button
+                                    onClick={loadOlderComments}
+                                    className="self-center text-xs text-blue-600 hover:underline"
+                                >
+                                    Load older messages
+                                </button>
+                            )}
                         </div>
 
                         {/* Input Area */}
@@ -371,4 +413,11 @@ function DocCategorySection({ title, category, uploadedDocs, onUpload, uploading
             </div>
         </div>
     );
-}
\ No newline at end of file
+}
+
+// Stream events, posted messages and history pages can overlap: de-duplicate by id, newest first
+function mergeComments(current, incoming) {
+    const byId = new Map(current.map((c) => [c.id, c]));
+    incoming.forEach((c) => byId.set(c.id, c));
+    return [...byId.values()].sort((a, b) => b.id - a.id);
+}
@@ -25,16 +25,25 @@ export default function Dashboard() {
     const { user, isStaff, logout } = useAuth();
     const [apps, setApps] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
+    const [stats, setStats] = useState(null);
     const [isMobileMenuOpen, setIsMobileMenuOpen] = useState(false); // State for Mobile Menu
 
     useEffect(() => {
         loadApplications();
-    }, []);
+        if (isStaff) {
+            appService.getStats()
+                .then(setStats)
+                .catch((error) => console.error("Failed to load stats", error));
+        }
+    }, [isStaff]);
 
     const loadApplications = async () => {
         try {
-            const data = await appService.getAll();
-            setApps(data);
+            const page = await appService.getPage();
+            setApps(page.items);
+            setNextCursor(page.nextCursor);
         } catch (error) {
             console.error("Failed to load apps", error);
         } finally {
@@ -42,6 +51,19 @@ export default function Dashboard() {
         }
     };
 
+    const loadMore = async () => {
+        setLoadingMore(true);
+        try {
+            const page = await appService.getPage({ cursor: nextCursor });
+            setApps((prev) => [...prev, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (error) {
+            console.error("Failed to load more apps", error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     if (loading) return <DashboardSkeleton />;
 
     return (
@@ -133,6 +155,23 @@ export default function Dashboard() {
                     )}
                 </div>
 
+                {/* Pipeline Stats (Staff only) */}
+                {isStaff && stats && (
+                    <div className="grid grid-cols-2 md:grid-cols-4 gap-4 mb-8">
+                        {[
+                            { label: 'Total', value: stats.totalApplications, color: 'text-blue-900' },
+                            { label: 'Ready', value: stats.byPreScreenResult.READY, color: 'text-green-700' },
+                            { label: 'Missing Docs', value: stats.byPreScreenResult.BLOCKED_MISSING_DOCS, color: 'text-amber-600' },
+                            { label: 'Ineligible', value: stats.byPreScreenResult.BLOCKED_INELIGIBLE, color: 'text-red-600' },
+                        ].map((card) => (
+                            <div key={card.label} className="bg-white shadow-sm border border-gray-200 rounded-xl p-4">
+                                <p className="text-xs text-gray-500 uppercase tracking-wider">{card.label}</p>
+                                <p className={`text-2xl font-bold mt-1 ${card.color}`}>{card.value ?? 0}</p>
+                            </div>
+                        ))}
+                    </div>
+                )}
+
                 {/* Application List - Adaptive Card View */}
                 <div className="bg-white shadow-sm border border-gray-200 rounded-xl overflow-hidden">
                     {apps.length === 0 ? (
@@ -182,6 +221,17 @@ export default function Dashboard() {
                             ))}
                         </ul>
                     )}
+                    {nextCursor && (
+                        <div className="p-4 border-t border-gray-100 text-center">
+                            <button
+                                onClick={loadMore}
+                                disabled={loadingMore}
+                                className="px-4 py-2 text-sm font-medium text-blue-700 hover:text-blue-900 disabled:text-gray-400"
+                            >
+                                {loadingMore ? 'Loading...' : 'Load more'}
+                            </button>
+                        </div>
+                    )}
                 </div>
             </main>
         </div>
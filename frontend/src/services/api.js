@@ -6,6 +6,8 @@ const BASE_URL = import.meta.env.MODE === 'development'
 
 const api = axios.create({
     baseURL: BASE_URL,
+    // Makes Spring answer a missing/expired token with a bare 401 instead of a Basic-auth browser prompt
+    headers: { 'X-Requested-With': 'XMLHttpRequest' },
 });
 
 // Request Interceptor: Auto-attach JWT token
@@ -17,4 +19,60 @@ api.interceptors.request.use((config) => {
     return config;
 });
 
-export default api;
\ No newline at end of file
+// Access tokens are short-lived and refresh tokens single use, so a browser may only spend each refresh token once.
+// Concurrent 401s in this tab share one promise; tabs take turns through a Web Lock, and a tab that waited re-reads
+// storage and reuses the pair another tab has just obtained instead of replaying the spent refresh token.
+let refreshing = null;
+
+const withRefreshLock = (task) => (navigator.locks
+    ? navigator.locks.request('prescreen-token-refresh', task)
+    : task());
+
+export const refreshAccessToken = () => {
+    if (!refreshing) {
+        const seen = localStorage.getItem('refreshToken');
+        refreshing = withRefreshLock(async () => {
+            const refreshToken = localStorage.getItem('refreshToken');
+            if (!refreshToken) {
+                throw new Error('Not logged in');
+            }
+            if (refreshToken !== seen) {
+                // Another tab rotated the pair while we waited
+                return localStorage.getItem('token');
+            }
+            const { data } = await axios.post(`${BASE_URL}/auth/refresh`, { refreshToken });
+            localStorage.setItem('token', data.token);
+            localStorage.setItem('refreshToken', data.refreshToken);
+            localStorage.setItem('user', JSON.stringify(data.user));
+            return data.token;
+        })
+            .catch((error) => {
+                // Session is over (logged out elsewhere, refresh expired or reused)
+                localStorage.removeItem('token');
+                localStorage.removeItem('refreshToken');
+                localStorage.removeItem('user');
+                window.location.assign('/login');
+                throw error;
+            })
+            .finally(() => { refreshing = null; });
+    }
+    return refreshing;
+};
+
+// Response Interceptor: on 401 refresh once and retry the original request
+api.interceptors.response.use(undefined, async (error) => {
+    const { config, response } = error;
+    if (response?.status !== 401 || !config || config._retried || config.url?.startsWith('/auth/')) {
+        throw error;
+    }
+    config._retried = true;
+    // The request went out with a token another tab has since replaced: retry with the current one first
+    const current = localStorage.getItem('token');
+    const token = current && config.headers.Authorization !== `Bearer ${current}`
+        ? current
+        : await refreshAccessToken();
+    config.headers.Authorization = `Bearer ${token}`;
+    return api(config);
+});
+
+export default api;
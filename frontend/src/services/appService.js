@@ -7,6 +7,18 @@ export const appService = {
         return response.data;
     },
 
+    // Get one page of applications (newest first). Pass nextCursor from the previous page to continue.
+    getPage: async (params = {}) => {
+        const response = await api.get('/applications/page', { params });
+        return response.data; // { items, nextCursor, hasMore }
+    },
+
+    // Dashboard counts by pre-screen result / eligibility / turnover band (Staff Only)
+    getStats: async () => {
+        const response = await api.get('/applications/stats');
+        return response.data;
+    },
+
     // Create a new application
     create: async (applicationData) => {
         const response = await api.post('/applications', applicationData);
@@ -25,7 +37,7 @@ export const appService = {
 
     // Run Pre-Screen Check (Staff Only)
     runPreScreen: async (id) => {
-        const response = await api.get(`/applications/${id}/pre-screen`);
+        const response = await api.post(`/applications/${id}/pre-screen`);
         return response.data;
     }
 };
\ No newline at end of file
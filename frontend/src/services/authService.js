@@ -5,6 +5,7 @@ export const authService = {
         const response = await api.post('/auth/login', { id: username, password });
         if (response.data.token) {
             localStorage.setItem('token', response.data.token);
+            localStorage.setItem('refreshToken', response.data.refreshToken);
             localStorage.setItem('user', JSON.stringify(response.data.user));
         }
         return response.data;
@@ -22,8 +23,17 @@ export const authService = {
         return response.data; // Returns { userId, fullName }
     },
 
-    logout: () => {
-        localStorage.removeItem('token');
-        localStorage.removeItem('user');
+    // Revokes both tokens server-side; local state is cleared even if that call fails
+    logout: async () => {
+        const refreshToken = localStorage.getItem('refreshToken');
+        try {
+            await api.post('/auth/logout', { refreshToken });
+        } catch (error) {
+            console.error(error);
+        } finally {
+            localStorage.removeItem('token');
+            localStorage.removeItem('refreshToken');
+            localStorage.removeItem('user');
+        }
     }
 };
\ No newline at end of file
@@ -0,0 +1,51 @@
+import api, { refreshAccessToken } from './api';
+
+// Reads a Server-Sent Events endpoint. EventSource can't send the Bearer header, so the stream is read
+// with fetch. Reconnects after a drop; returns a function that closes the stream.
+export const openEventStream = (path, onEvent) => {
+    const controller = new AbortController();
+
+    const connect = async () => {
+        while (!controller.signal.aborted) {
+            try {
+                const response = await fetch(`${api.defaults.baseURL}${path}`, {
+                    headers: { Authorization: `Bearer ${localStorage.getItem('token')}` },
+                    signal: controller.signal,
+                });
+                if (response.status === 401) {
+                    // Access token expired while idle; reconnect straight away with a fresh one
+                    await refreshAccessToken();
+                    continue;
+                }
+                if (!response.ok) throw new Error(`Stream failed: ${response.status}`);
+
+                const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += value;
+                    let end;
+                    while ((end = buffer.indexOf('\n\n')) >= 0) {
+                        const block = buffer.slice(0, end);
+                        buffer = buffer.slice(end + 2);
+
+                        let name = 'message';
+                        const data = [];
+                        block.split('\n').forEach((line) => {
+                            if (line.startsWith('event:')) name = line.slice(6).trim();
+                            else if (line.startsWith('data:')) data.push(line.slice(5));
+                        });
+                        if (data.length) onEvent(name, JSON.parse(data.join('\n')));
+                    }
+                }
+            } catch (error) {
+                if (controller.signal.aborted) return;
+            }
+            await new Promise((resolve) => setTimeout(resolve, 3000));
+        }
+    };
+
+    connect();
+    return () => controller.abort();
+};
@@ -1,12 +1,21 @@
 import api from './api';
+import { openEventStream } from './eventStream';
 
 export const msgService = {
   getComments: async (appId) => {
     const response = await api.get(`/applications/${appId}/comments`);
     return response.data;
   },
+  // One page of the thread (newest first). Pass nextCursor from the previous page to load older messages.
+  getCommentPage: async (appId, params = {}) => {
+    const response = await api.get(`/applications/${appId}/comments/page`, { params });
+    return response.data; // { items, nextCursor, hasMore }
+  },
   postComment: async (appId, message) => {
     const response = await api.post(`/applications/${appId}/comments`, { message });
     return response.data;
-  }
-};
\ No newline at end of file
+  },
+  // Live comments (Server-Sent Events); returns a function that closes the stream
+  streamComments: (appId, onComment) =>
+    openEventStream(`/applications/${appId}/comments/stream`, (name, comment) => onComment(comment))
+};
@@ -0,0 +1,7 @@
+import { openEventStream } from './eventStream';
+
+export const notificationService = {
+    // Changes to the current user's applications: PRE_SCREEN, DOCUMENT_STATUS and LOCKED events.
+    // Returns a function that closes the stream.
+    stream: (onEvent) => openEventStream('/notifications/stream', (name, event) => onEvent(event))
+};
@@ -0,0 +1,71 @@
+// k6 load test: upload flood + pre-screen + browsing, run against one server mode at a time.
+//   k6 run -e BASE_URL=http://localhost:8081 --summary-export=results/virtual.json load/mixed-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { randomBytes } from 'k6/crypto';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const UPLOAD_KB = parseInt(__ENV.UPLOAD_KB || '2048');
+const FILE = http.file(randomBytes(UPLOAD_KB * 1024), 'statement.pdf', 'application/pdf');
+
+export const options = {
+    scenarios: {
+        uploads: {
+            executor: 'constant-arrival-rate', exec: 'upload',
+            rate: parseInt(__ENV.UPLOAD_RATE || '40'), timeUnit: '1s', duration: '2m',
+            preAllocatedVUs: 100, maxVUs: 400,
+        },
+        prescreen: {
+            executor: 'constant-arrival-rate', exec: 'preScreen',
+            rate: parseInt(__ENV.PRESCREEN_RATE || '50'), timeUnit: '1s', duration: '2m',
+            preAllocatedVUs: 50, maxVUs: 200,
+        },
+        browse: {
+            executor: 'constant-arrival-rate', exec: 'browse',
+            rate: parseInt(__ENV.BROWSE_RATE || '100'), timeUnit: '1s', duration: '2m',
+            preAllocatedVUs: 50, maxVUs: 200,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{scenario:prescreen}': ['p(99)<500'],
+        'http_req_duration{scenario:browse}': ['p(99)<500'],
+    },
+};
+
+function login(id) {
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ id, password: 'password123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    return res.json('token');
+}
+
+export function setup() {
+    const staff = login('STAFF-1');
+    const applicant = login('APPLICANT-DEMO');
+    const page = http.get(`${BASE_URL}/api/applications/page?size=50`, { headers: { Authorization: `Bearer ${applicant}` } });
+    const ids = page.json('items').map((a) => a.id);
+    return { staff, applicant, ids };
+}
+
+function pick(ids) {
+    return ids[Math.floor(Math.random() * ids.length)];
+}
+
+export function upload(data) {
+    const res = http.post(`${BASE_URL}/api/applications/${pick(data.ids)}/documents`,
+        { docType: 'BANK_STATEMENT_6_12M', file: FILE },
+        { headers: { Authorization: `Bearer ${data.applicant}` } });
+    check(res, { 'upload ok or shed': (r) => r.status === 200 || r.status === 503 });
+}
+
+export function preScreen(data) {
+    const res = http.get(`${BASE_URL}/api/applications/${pick(data.ids)}/pre-screen`,
+        { headers: { Authorization: `Bearer ${data.staff}` } });
+    check(res, { 'pre-screen ok': (r) => r.status === 200 });
+}
+
+export function browse(data) {
+    const res = http.get(`${BASE_URL}/api/applications/page?size=20`,
+        { headers: { Authorization: `Bearer ${data.staff}` } });
+    check(res, { 'page ok': (r) => r.status === 200 });
+}
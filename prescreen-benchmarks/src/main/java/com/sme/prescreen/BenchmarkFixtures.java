@@ -0,0 +1,38 @@
+package com.sme.prescreen;
+
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// Shared in-memory fixtures: a mix of passing and failing applications
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Application[] applications(int count) {
+        String[] bands = {"0-50L", "1Cr-5Cr", "5Cr+"};
+        String[] types = {"PROPRIETORSHIP", "PVT_LTD"};
+        Application[] apps = new Application[count];
+        for (int i = 0; i < count; i++) {
+            apps[i] = Application.builder()
+                    .id((long) i + 1)
+                    .applicantName(i % 17 == 0 ? " " : "Applicant " + i + " Corp")
+                    .businessType(types[i % types.length])
+                    .turnoverBand(bands[i % bands.length])
+                    .requestedLoanAmount(BigDecimal.valueOf(10_000L + (i * 7_919L) % 5_000_000L))
+                    .yearsInBusiness(i % 5)
+                    .losApplicationId("SME" + i)
+                    .ownerId(2L)
+                    .eligibilityStatus(EligibilityStatus.PENDING)
+                    .preScreenResult(PreScreenResult.BLOCKED_MISSING_DOCS)
+                    .createdAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i))
+                    .updatedAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i))
+                    .build();
+        }
+        return apps;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sme.prescreen.security;
+
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.domain.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Token issue and verification (signature check + claims parse), and the per-request revocation check
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    static final String SECRET = "benchmark_secret_key_at_least_32_bytes";
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+    private TokenRevocationList revocations;
+    private String liveTokenId;
+    private String revokedTokenId;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, Duration.ofMinutes(15), Duration.ofDays(7));
+        user = User.builder()
+                .id(42L)
+                .username("APPLICANT-42")
+                .email("bench@sme.com")
+                .fullName("Bench Applicant")
+                .password("x")
+                .role(UserRole.APPLICANT)
+                .build();
+        token = jwtUtil.generateToken(user);
+
+        // No database: ids are added in memory only (load/sync are never called)
+        revocations = new TokenRevocationList(null, new SimpleMeterRegistry(), 100_000);
+        long expiresAt = System.currentTimeMillis() + Duration.ofDays(1).toMillis();
+        for (int i = 0; i < 10_000; i++) revocations.remember(UUID.randomUUID().toString(), expiresAt);
+        revokedTokenId = UUID.randomUUID().toString();
+        revocations.remember(revokedTokenId, expiresAt);
+        liveTokenId = jwtUtil.extractAllClaims(token).getId();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean revocationCheckLive() {
+        return revocations.isRevoked(liveTokenId);
+    }
+
+    @Benchmark
+    public boolean revocationCheckRevoked() {
+        return revocations.isRevoked(revokedTokenId);
+    }
+}
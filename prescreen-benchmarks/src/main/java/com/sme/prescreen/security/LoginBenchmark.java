@@ -0,0 +1,54 @@
+package com.sme.prescreen.security;
+
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.domain.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// CPU side of a login (password check on the hashing pool + token issue), one thread: ops/s = logins/s per core.
+// A cost-12 login takes a few hundred ms, so iterations are 5 s; 1 s would score a handful of ops each.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LoginBenchmark {
+
+    @Param({"10", "12"})
+    public int cost;
+
+    private PasswordHasher hasher;
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @Setup
+    public void setup() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), cost, 1, 64);
+        jwtUtil = new JwtUtil(JwtBenchmark.SECRET, Duration.ofMinutes(15), Duration.ofDays(7));
+        user = User.builder()
+                .id(42L)
+                .username("APPLICANT-42")
+                .email("bench@sme.com")
+                .fullName("Bench Applicant")
+                .password(encoder.encode("password123"))
+                .role(UserRole.APPLICANT)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    public String login() {
+        if (!hasher.matches("password123", user.getPassword())) throw new IllegalStateException();
+        return jwtUtil.generateToken(user);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.BenchmarkFixtures;
+import com.sme.prescreen.config.AppMetrics;
+import com.sme.prescreen.domain.dto.ApplicationResponseDto;
+import com.sme.prescreen.domain.dto.DocSummary;
+import com.sme.prescreen.domain.dto.PreScreenResultDto;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.DocumentType;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import com.sme.prescreen.service.impl.SimpleEligibilityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Pre-screen decision logic, doc summary aggregation and entity -> DTO mapping, all in memory
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreScreenBenchmark {
+
+    private static final int FIXTURES = 1024;
+
+    private ApplicationService applicationService;
+    private Application[] applications;
+    private List<List<DocumentType>> satisfiedTypes;
+    private DocSummary[] summaries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        // Only the pure, DB-free methods are exercised, so the repositories can stay null
+        applicationService = new ApplicationService(null, new SimpleEligibilityService(), null, null,
+                new AppMetrics(new SimpleMeterRegistry()), null, null);
+        applications = BenchmarkFixtures.applications(FIXTURES);
+
+        Random random = new Random(42);
+        DocumentType[] types = DocumentType.values();
+        satisfiedTypes = new ArrayList<>(FIXTURES);
+        summaries = new DocSummary[FIXTURES];
+        for (int i = 0; i < FIXTURES; i++) {
+            List<DocumentType> uploaded = new ArrayList<>();
+            for (DocumentType type : types) if (random.nextInt(10) < 8) uploaded.add(type);
+            satisfiedTypes.add(uploaded);
+            summaries[i] = DocumentService.summarize(DocumentService.satisfiedMask(uploaded));
+        }
+    }
+
+    private int nextIndex() {
+        return next++ & (FIXTURES - 1);
+    }
+
+    @Benchmark
+    public PreScreenResult decision() {
+        return ApplicationService.getPreScreenResult(summaries[nextIndex()]);
+    }
+
+    @Benchmark
+    public PreScreenResultDto applyPreScreen() {
+        int i = nextIndex();
+        return applicationService.applyPreScreen(applications[i], summaries[i]);
+    }
+
+    @Benchmark
+    public DocSummary docSummary() {
+        return DocumentService.summarize(DocumentService.satisfiedMask(satisfiedTypes.get(nextIndex())));
+    }
+
+    @Benchmark
+    public ApplicationResponseDto toDto() {
+        return applicationService.toDto(applications[nextIndex()]);
+    }
+}
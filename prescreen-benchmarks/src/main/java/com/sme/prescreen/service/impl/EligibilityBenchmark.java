@@ -0,0 +1,50 @@
+package com.sme.prescreen.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sme.prescreen.BenchmarkFixtures;
+import com.sme.prescreen.domain.dto.EligibilityResult;
+import com.sme.prescreen.domain.entity.Application;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.concurrent.TimeUnit;
+
+// Eligibility rules: the hardcoded service vs the compiled, config-driven engine
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EligibilityBenchmark {
+
+    private static final int FIXTURES = 1024;
+
+    private SimpleEligibilityService simple;
+    private RuleBasedEligibilityService ruleBased;
+    private Application[] applications;
+    private int next;
+
+    @Setup
+    public void setup() {
+        simple = new SimpleEligibilityService();
+        ruleBased = new RuleBasedEligibilityService(new DefaultResourceLoader(), new ObjectMapper(),
+                "classpath:eligibility/rules.json");
+        ruleBased.init();
+        applications = BenchmarkFixtures.applications(FIXTURES);
+    }
+
+    private Application nextApplication() {
+        return applications[next++ & (FIXTURES - 1)];
+    }
+
+    @Benchmark
+    public EligibilityResult simpleEvaluate() {
+        return simple.evaluate(nextApplication());
+    }
+
+    @Benchmark
+    public EligibilityResult ruleBasedEvaluate() {
+        return ruleBased.evaluate(nextApplication());
+    }
+}
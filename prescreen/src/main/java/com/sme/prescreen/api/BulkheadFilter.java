@@ -0,0 +1,160 @@
+package com.sme.prescreen.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+// Separate concurrency budgets per endpoint class, so a flood of large uploads / previews
+// can't take all request capacity (and DB slots) away from pre-screen calls or the rest of the API.
+// Over budget: wait up to the acquire timeout, then 503 + Retry-After.
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    enum Bulkhead { FILES, PRESCREEN, DEFAULT }
+
+    static final Pattern UPLOAD = Pattern.compile("^/api/applications/\\d+/documents/?$");
+    private static final Pattern PREVIEW = Pattern.compile("^/api/applications/\\d+/documents/\\d+/preview/?$");
+    private static final Pattern PRESCREEN = Pattern.compile("^/api/applications/(\\d+/)?pre-screen(/batch)?/?$");
+    private static final Pattern EVENT_STREAM = Pattern.compile("^/api/.+/stream/?$");
+
+    private final Map<Bulkhead, Semaphore> permits = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> rejected = new EnumMap<>(Bulkhead.class);
+    private final long acquireTimeoutMs;
+    private final ObjectMapper objectMapper;
+
+    public BulkheadFilter(ObjectMapper objectMapper,
+                          MeterRegistry registry,
+                          @Value("${prescreen.bulkhead.files.max-concurrent:16}") int files,
+                          @Value("${prescreen.bulkhead.prescreen.max-concurrent:8}") int preScreen,
+                          @Value("${prescreen.bulkhead.default.max-concurrent:64}") int other,
+                          @Value("${prescreen.bulkhead.acquire-timeout-ms:1000}") long acquireTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        permits.put(Bulkhead.FILES, new Semaphore(files, true));
+        permits.put(Bulkhead.PRESCREEN, new Semaphore(preScreen, true));
+        permits.put(Bulkhead.DEFAULT, new Semaphore(other, true));
+
+        permits.forEach((bulkhead, semaphore) -> {
+            String tag = bulkhead.name().toLowerCase();
+            Gauge.builder("prescreen.bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .description("Free slots in the bulkhead")
+                    .tag("bulkhead", tag)
+                    .register(registry);
+            rejected.put(bulkhead, Counter.builder("prescreen.bulkhead.rejected")
+                    .description("Requests turned away with 503 because the bulkhead was full")
+                    .tag("bulkhead", tag)
+                    .register(registry));
+        });
+    }
+
+    // Static UI, Swagger, actuator: not limited.
+    // SSE streams sit idle for minutes, so they are capped by SseRegistry instead of holding a slot here.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || EVENT_STREAM.matcher(uri).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Bulkhead bulkhead = classify(request.getMethod(), request.getRequestURI());
+        Semaphore semaphore = permits.get(bulkhead);
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.get(bulkhead).increment();
+            reject(response, bulkhead);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) semaphore.release();
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streamed responses (NDJSON batch) keep their slot until the stream ends
+                request.getAsyncContext().addListener(new ReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    static Bulkhead classify(String method, String uri) {
+        if (PREVIEW.matcher(uri).matches()) return Bulkhead.FILES;
+        if ("POST".equals(method) && UPLOAD.matcher(uri).matches()) return Bulkhead.FILES;
+        if (PRESCREEN.matcher(uri).matches()) return Bulkhead.PRESCREEN;
+        return Bulkhead.DEFAULT;
+    }
+
+    private void reject(HttpServletResponse response, Bulkhead bulkhead) throws IOException {
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Server busy, please retry")
+                .errors(List.of("Too many concurrent " + bulkhead.name().toLowerCase() + " requests"))
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(Instant.now())
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private record ReleasingListener(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
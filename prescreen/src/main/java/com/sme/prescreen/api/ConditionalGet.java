@@ -0,0 +1,26 @@
+package com.sme.prescreen.api;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+// ETag / If-None-Match for JSON reads. The tag comes from a version-only query, so an unchanged resource is
+// answered with 304 before its DTO is loaded or serialized. Browsers revalidate on every request (no-cache:
+// access is re-checked each time) and shared caches never store these (private).
+public final class ConditionalGet {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CONTROL).body(body.get());
+    }
+}
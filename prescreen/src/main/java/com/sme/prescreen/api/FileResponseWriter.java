@@ -0,0 +1,135 @@
+package com.sme.prescreen.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Serves a file with ETag / If-None-Match (304), single byte ranges (206 / 416) and, on Tomcat,
+// sendfile so the bytes go from the page cache to the socket without passing through the heap.
+public final class FileResponseWriter {
+
+    // Tomcat's sendfile request attributes (see org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private FileResponseWriter() {
+    }
+
+    public static void write(HttpServletRequest request, HttpServletResponse response,
+                             Path file, String contentType, String filename, String etag) throws IOException {
+        long length = Files.size(file);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Always revalidate (access can be revoked), but a matching ETag costs no body
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || strongMatch(ifRange.trim(), etag))) {
+            Matcher m = SINGLE_RANGE.matcher(range.trim());
+            // Multi-range or malformed headers are ignored and the whole file is sent
+            if (m.matches() && !(m.group(1).isEmpty() && m.group(2).isEmpty())) {
+                if (m.group(1).isEmpty()) {
+                    long suffix = parsePosition(m.group(2));           // bytes=-N: last N bytes
+                    start = suffix >= length ? 0 : length - suffix;
+                    if (suffix == 0) start = length;
+                } else {
+                    start = parsePosition(m.group(1));
+                    if (!m.group(2).isEmpty()) end = Math.min(parsePosition(m.group(2)), length - 1);
+                }
+
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(filename, StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count <= 0) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);   // exclusive
+            return;
+        }
+
+        // Fallback for containers without sendfile
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) break;
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    // Weak comparison as required for If-None-Match; "*" matches any current representation
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(opaque)) return true;
+        }
+        return false;
+    }
+
+    // If-Range needs the strong comparison: a weak tag (or an HTTP-date, as no Last-Modified is sent) never matches,
+    // so the client gets the whole file instead of a range spliced onto different bytes
+    private static boolean strongMatch(String ifRange, String etag) {
+        return !etag.startsWith("W/") && ifRange.equals(etag);
+    }
+
+    // Digits only (from the pattern), so the one failure is overflow: a position past any file size,
+    // which clamps the last byte, takes the whole file as a suffix, or makes a first byte unsatisfiable (416)
+    private static long parsePosition(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
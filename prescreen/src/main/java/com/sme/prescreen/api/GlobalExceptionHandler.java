@@ -1,20 +1,36 @@
 package com.sme.prescreen.api;
 
+import com.sme.prescreen.security.PasswordHashingBusyException;
+import com.sme.prescreen.service.ApplicationLockedException;
+import com.sme.prescreen.service.InvalidCursorException;
+import com.sme.prescreen.service.InvalidCsvException;
+import com.sme.prescreen.service.StreamCapacityException;
+import com.sme.prescreen.service.TooManyStreamsException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.springframework.web.util.DisconnectedClientHelper;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
+@Slf4j
 public class GlobalExceptionHandler {
 
     // 404 NOT FOUND
@@ -32,6 +48,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    // 404 for paths nothing serves (e.g. /actuator/* on the app port)
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ApiError> handleNoResource(NoResourceFoundException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Not found")
+                .errors(List.of())
+                .status(HttpStatus.NOT_FOUND.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    // 401 UNAUTHORIZED: bad login, or a refresh token that is invalid, expired or already used
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ApiError> handleAuthentication(AuthenticationException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message(ex.getMessage())
+                .errors(List.of())
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
+
     // @Valid validation errors (DTO invalid)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleValidationErrors(MethodArgumentNotValidException ex) {
@@ -87,6 +133,154 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    // Malformed pagination cursor; the cursor itself is not echoed back
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiError> handleInvalidCursor(InvalidCursorException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Invalid cursor")
+                .errors(List.of())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    // CSV import rejected before any row was read (messages are ours, not the file's contents)
+    @ExceptionHandler(InvalidCsvException.class)
+    public ResponseEntity<ApiError> handleInvalidCsv(InvalidCsvException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Invalid CSV file")
+                .errors(List.of(ex.getMessage()))
+                .status(HttpStatus.BAD_REQUEST.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    // 409 CONFLICT: application locked by staff
+    @ExceptionHandler(ApplicationLockedException.class)
+    public ResponseEntity<ApiError> handleLocked(ApplicationLockedException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message(ex.getMessage())
+                .errors(List.of())
+                .status(HttpStatus.CONFLICT.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // 409 CONFLICT: someone else changed the record since it was read (stale version)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLock(OptimisticLockingFailureException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("The record was changed by someone else. Reload and try again.")
+                .errors(List.of())
+                .status(HttpStatus.CONFLICT.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // No DB slot / connection within the timeout (see ConcurrencyLimitedDataSource).
+    // The cause (driver / pool details) is logged, never sent to the client.
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiError> handleDatabaseBusy(CannotCreateTransactionException ex) {
+        log.warn("No database connection available: {}", ex.getMostSpecificCause().toString());
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Server busy, please retry")
+                .errors(List.of())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    // Event-stream connection limit reached (see SseRegistry)
+    @ExceptionHandler(StreamCapacityException.class)
+    public ResponseEntity<ApiError> handleStreamCapacity(StreamCapacityException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Server busy, please retry")
+                .errors(List.of(ex.getMessage()))
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(error);
+    }
+
+    // One user holds too many event streams (see SseRegistry)
+    @ExceptionHandler(TooManyStreamsException.class)
+    public ResponseEntity<ApiError> handleTooManyStreams(TooManyStreamsException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Too many open event streams")
+                .errors(List.of(ex.getMessage()))
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(error);
+    }
+
+    // Password hashing queue full (see PasswordHasher)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiError> handleHashingBusy(PasswordHashingBusyException ex) {
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Server busy, please retry")
+                .errors(List.of(ex.getMessage()))
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    // I/O failures. A client that closed a streamed response (SSE, NDJSON) gets nothing: nobody is left to read it.
+    @ExceptionHandler(IOException.class)
+    public ResponseEntity<ApiError> handleIo(IOException ex) {
+        if (ex instanceof AsyncRequestNotUsableException || DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            return null;
+        }
+
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Unexpected server error")
+                .errors(List.of(String.valueOf(ex.getMessage())))
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+
     // Generic runtime exceptions
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiError> handleRuntime(RuntimeException ex) {
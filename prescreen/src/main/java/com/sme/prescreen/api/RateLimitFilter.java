@@ -0,0 +1,170 @@
+package com.sme.prescreen.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-client request rate limits, one token bucket per (route group, client). Runs in the security chain right
+// after JwtAuthenticationFilter (see SecurityConfig), so clients are keyed by user; /api/auth/** and anonymous
+// requests are keyed by remote address. Over the limit: 429 + Retry-After, before a bulkhead slot or DB connection is used.
+// Where BulkheadFilter caps concurrency for everyone, this stops one client from using up that capacity.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum RouteGroup { AUTH, FILES, DEFAULT }
+
+    // nanoTime may be negative; bucket times are kept relative to this so 0 means "full"
+    private static final long ORIGIN = System.nanoTime();
+
+    private final boolean enabled;
+    private final Map<RouteGroup, Limit> limits = new EnumMap<>(RouteGroup.class);
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           MeterRegistry registry,
+                           @Value("${prescreen.ratelimit.enabled:true}") boolean enabled,
+                           @Value("${prescreen.ratelimit.max-clients:100000}") long maxClients,
+                           @Value("${prescreen.ratelimit.auth.capacity:10}") int authCapacity,
+                           @Value("${prescreen.ratelimit.auth.refill-per-second:0.5}") double authRefill,
+                           @Value("${prescreen.ratelimit.files.capacity:10}") int filesCapacity,
+                           @Value("${prescreen.ratelimit.files.refill-per-second:1}") double filesRefill,
+                           @Value("${prescreen.ratelimit.default.capacity:100}") int defaultCapacity,
+                           @Value("${prescreen.ratelimit.default.refill-per-second:20}") double defaultRefill) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+
+        limits.put(RouteGroup.AUTH, new Limit(authCapacity, authRefill, maxClients, registry, "auth"));
+        limits.put(RouteGroup.FILES, new Limit(filesCapacity, filesRefill, maxClients, registry, "files"));
+        limits.put(RouteGroup.DEFAULT, new Limit(defaultCapacity, defaultRefill, maxClients, registry, "default"));
+    }
+
+    // Static UI, Swagger, actuator: not limited
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        RouteGroup group = classify(request.getMethod(), request.getRequestURI());
+        Limit limit = limits.get(group);
+
+        long waitNanos = limit.tryAcquire(clientKey(group, request));
+        if (waitNanos > 0) {
+            limit.rejected.increment();
+            reject(response, group, waitNanos);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    static RouteGroup classify(String method, String uri) {
+        if (uri.startsWith("/api/auth/")) return RouteGroup.AUTH;
+        if ("POST".equals(method) && BulkheadFilter.UPLOAD.matcher(uri).matches()) return RouteGroup.FILES;
+        return RouteGroup.DEFAULT;
+    }
+
+    // Login / register / refresh are per address: there is no trusted user yet
+    private static String clientKey(RouteGroup group, HttpServletRequest request) {
+        if (group != RouteGroup.AUTH) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null) {
+                return authentication.getName();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, RouteGroup group, long waitNanos) throws IOException {
+        ApiError error = ApiError.builder()
+                .success(false)
+                .message("Too many requests, please slow down")
+                .errors(List.of("Rate limit exceeded for " + group.name().toLowerCase() + " requests"))
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .timestamp(Instant.now())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        // Whole seconds, rounded up, until one request would be let through
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    // Token bucket stored as a single "theoretical arrival time" per client (GCRA): each request moves it one
+    // emission interval forward, and a request is refused when that would put it more than a full bucket ahead of now.
+    // Same behaviour as counting tokens, but the whole state is one long, so acquiring is a CAS loop without locks.
+    static final class Limit {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        // Bounded; an idle client's bucket is full again after burstNanos, so evicting it then changes nothing
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter rejected;
+
+        Limit(int capacity, double refillPerSecond, long maxClients, MeterRegistry registry, String group) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+            this.burstNanos = intervalNanos * capacity;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxClients)
+                    .expireAfterAccess(Duration.ofNanos(Math.max(burstNanos, TimeUnit.SECONDS.toNanos(1))))
+                    .build();
+
+            Gauge.builder("prescreen.ratelimit.clients", buckets, Cache::estimatedSize)
+                    .description("Clients with a rate-limit bucket in memory")
+                    .tag("group", group)
+                    .register(registry);
+            this.rejected = Counter.builder("prescreen.ratelimit.rejected")
+                    .description("Requests turned away with 429 because the client was over its rate limit")
+                    .tag("group", group)
+                    .register(registry);
+        }
+
+        // 0 when admitted, else nanoseconds until a request would be
+        long tryAcquire(String client) {
+            return tryAcquire(client, System.nanoTime() - ORIGIN);
+        }
+
+        // now is nanoseconds since ORIGIN (tests pass their own clock)
+        long tryAcquire(String client, long now) {
+            AtomicLong bucket = buckets.get(client, key -> new AtomicLong());
+            while (true) {
+                long arrival = bucket.get();
+                long next = Math.max(arrival, now) + intervalNanos;
+                long ahead = next - now;
+                if (ahead > burstNanos) {
+                    return ahead - burstNanos;
+                }
+                if (bucket.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
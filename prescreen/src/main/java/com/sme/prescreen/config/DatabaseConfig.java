@@ -0,0 +1,45 @@
+package com.sme.prescreen.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DatabaseConfig {
+
+    // Wraps the auto-configured (Hikari) pool; permits default to the pool size
+    @Bean
+    static BeanPostProcessor dataSourceLimiter(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)
+                        && "dataSource".equals(beanName)) {
+                    return new ConcurrencyLimitedDataSource(dataSource,
+                            env.getProperty("prescreen.db.max-concurrent", Integer.class, 10),
+                            env.getProperty("prescreen.db.acquire-timeout-ms", Long.class, 5000L));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder dataSourceLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("prescreen.db.limiter.in-use", limited, ConcurrencyLimitedDataSource::getInUse)
+                        .description("Connections handed out through the DB concurrency limiter")
+                        .register(registry);
+                Gauge.builder("prescreen.db.limiter.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                        .description("Threads queued for a DB slot")
+                        .register(registry);
+            }
+        };
+    }
+}
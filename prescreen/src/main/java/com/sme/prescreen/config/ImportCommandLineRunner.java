@@ -0,0 +1,62 @@
+package com.sme.prescreen.config;
+
+import com.sme.prescreen.domain.dto.ImportResultDto;
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.repository.UserRepository;
+import com.sme.prescreen.service.ApplicationImportService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// One-shot CLI import, e.g.
+//   java -jar prescreen.jar --spring.main.web-application-type=none \
+//        --prescreen.import.file=portfolio.csv --prescreen.import.owner=APPLICANT-DEMO
+// Imports the file, logs the summary and exits (non-zero if any row failed).
+@Component
+@ConditionalOnProperty("prescreen.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportCommandLineRunner implements CommandLineRunner {
+
+    private final ApplicationImportService applicationImportService;
+    private final UserRepository userRepository;
+    private final ApplicationContext context;
+
+    @Value("${prescreen.import.file}")
+    private Path file;
+
+    @Value("${prescreen.import.owner}")
+    private String ownerUsername;
+
+    @Override
+    public void run(String... args) throws Exception {
+        User owner = userRepository.findByUsername(ownerUsername)
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + ownerUsername));
+
+        ImportResultDto result;
+        try (InputStream in = Files.newInputStream(file)) {
+            result = applicationImportService.importCsv(in, owner.getId());
+        }
+
+        result.getErrors().forEach(e ->
+                log.warn("{} line {} ({}): {}", file.getFileName(), e.getLine(), e.getLosApplicationId(), e.getMessage()));
+        if (result.isErrorsTruncated()) {
+            log.warn("Only the first {} of {} row errors are listed", result.getErrors().size(), result.getFailed());
+        }
+        log.info("Imported {} of {} rows from {} in {} ms", result.getImported(), result.getRowsRead(), file,
+                result.getDurationMs());
+
+        int exitCode = result.getFailed() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
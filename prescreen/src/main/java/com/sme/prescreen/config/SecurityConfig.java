@@ -1,7 +1,10 @@
 package com.sme.prescreen.config;
 
+import com.sme.prescreen.api.RateLimitFilter;
 import com.sme.prescreen.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +30,10 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    @Value("${management.server.port}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -37,6 +44,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses (SSE, NDJSON) finish on an async dispatch; the request was authorized on entry
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 1. ALLOW PUBLIC ACCESS TO SWAGGER & API DOCS
                         .requestMatchers(
                                 "/v3/api-docs/**",
@@ -44,6 +54,12 @@ public class SecurityConfig {
                                 "/swagger-ui/**"
                         ).permitAll()
 
+                        // Health and probes: no token
+                        .requestMatchers("/actuator/health/**", "/livez", "/readyz").permitAll()
+                        // Prometheus scrape: no token, but only on the internal management port
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+
                         // 2. ALLOW PUBLIC ACCESS TO AUTH ENDPOINTS
                         .requestMatchers("/api/auth/**").permitAll()
 
@@ -66,6 +82,8 @@ public class SecurityConfig {
                 .httpBasic(Customizer.withDefaults());
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Right after the JWT filter, so limits are per user rather than per address
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -75,9 +93,10 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    // Raising the cost re-hashes each user's password at their next login (see LoginService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${prescreen.auth.bcrypt-cost:10}") int cost) {
+        return new BCryptPasswordEncoder(cost);
     }
 
     @Bean
@@ -1,24 +1,38 @@
 package com.sme.prescreen.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sme.prescreen.api.ConditionalGet;
+import com.sme.prescreen.domain.dto.ApplicationPageDto;
 import com.sme.prescreen.domain.dto.ApplicationRequestDto;
 import com.sme.prescreen.domain.dto.ApplicationResponseDto;
+import com.sme.prescreen.domain.dto.ApplicationSearchDto;
+import com.sme.prescreen.domain.dto.ApplicationStatsDto;
+import com.sme.prescreen.domain.dto.BatchPreScreenEvent;
+import com.sme.prescreen.domain.dto.BatchPreScreenRequestDto;
+import com.sme.prescreen.domain.dto.ImportResultDto;
 import com.sme.prescreen.domain.dto.PreScreenResultDto;
-import com.sme.prescreen.domain.entity.Application;
-import com.sme.prescreen.repository.ApplicationRepository;
 import com.sme.prescreen.security.AuthFacade;
+import com.sme.prescreen.service.ApplicationImportService;
 import com.sme.prescreen.service.ApplicationService;
-import jakarta.persistence.EntityNotFoundException;
+import com.sme.prescreen.service.ApplicationStatsService;
+import com.sme.prescreen.service.PreScreenBatchService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
-
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Tag(
@@ -31,8 +45,11 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
-    private final ApplicationRepository applicationRepository;
     private final AuthFacade authFacade;
+    private final PreScreenBatchService preScreenBatchService;
+    private final ApplicationImportService applicationImportService;
+    private final ApplicationStatsService applicationStatsService;
+    private final ObjectMapper objectMapper;
 
     // CREATE (APPLICANT only)
     @Operation(
@@ -56,30 +73,55 @@ public class ApplicationController {
             @PathVariable Long id,
             @Valid @RequestBody ApplicationRequestDto dto) {
 
-        Application app = applicationRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Application not found with id " + id));
-
-        if (app.isLockedByStaff()) {
-            throw new RuntimeException("Application is locked by staff. You cannot modify it.");
-        }
-
         return ResponseEntity.ok(applicationService.update(id, dto));
     }
 
     // GET BY ID (owner or STAFF)
     @PreAuthorize("@authFacade.canAccessApplication(#id)")
     @GetMapping("/{id}")
-    public ResponseEntity<ApplicationResponseDto> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(applicationService.getById(id));
+    public ResponseEntity<ApplicationResponseDto> getById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.respond(request, applicationService.getEtag(id), () -> applicationService.getById(id));
     }
 
     // GET ALL (STAFF = all, APPLICANT = own only)
+    @Operation(
+            summary = "List all visible applications (unpaginated)",
+            description = "Returns every application the caller can see in one response. Prefer /api/applications/page.",
+            deprecated = true
+    )
     @PreAuthorize("hasAnyRole('APPLICANT','STAFF')")
     @GetMapping
     public ResponseEntity<List<ApplicationResponseDto>> getAll() {
         return ResponseEntity.ok(applicationService.getAll());
     }
 
+    // PAGINATED LIST (STAFF = all, APPLICANT = own only)
+    @Operation(
+            summary = "List applications page by page",
+            description = "Keyset-paginated listing, newest first, with optional filters on pre-screen result, " +
+                    "eligibility status, turnover band, business type and owner (STAFF only). " +
+                    "Pass the returned nextCursor to fetch the following page."
+    )
+    @ApiResponse(responseCode = "200", description = "Page returned")
+    @PreAuthorize("hasAnyRole('APPLICANT','STAFF')")
+    @GetMapping("/page")
+    public ResponseEntity<ApplicationPageDto> search(@Valid @ModelAttribute ApplicationSearchDto query) {
+        return ResponseEntity.ok(applicationService.search(query));
+    }
+
+    // DASHBOARD STATS (STAFF only)
+    @Operation(
+            summary = "Get application counts for the dashboard",
+            description = "Counts by pre-screen result, eligibility status and turnover band, plus requested loan " +
+                    "amounts per band. Served from in-memory counters that are rebuilt from the database periodically."
+    )
+    @ApiResponse(responseCode = "200", description = "Stats returned")
+    @PreAuthorize("hasRole('STAFF')")
+    @GetMapping("/stats")
+    public ResponseEntity<ApplicationStatsDto> getStats() {
+        return ResponseEntity.ok(applicationStatsService.getStats());
+    }
+
     // DELETE (STAFF only)
     @PreAuthorize("hasRole('STAFF')")
     @DeleteMapping("/{id}")
@@ -88,29 +130,81 @@ public class ApplicationController {
         return ResponseEntity.noContent().build();
     }
 
+    // PRE-SCREEN RESULT (STAFF only, read-only)
+    @Operation(
+            summary = "Get the current pre-screen result of an application",
+            description = "Returns the stored decision, which is recomputed in the background after document uploads, " +
+                    "document status changes and application edits. Eligibility reasons are only returned by the POST variant."
+    )
+    @ApiResponse(responseCode = "200", description = "Pre-screen result returned")
+    @PreAuthorize("hasRole('STAFF')")
+    @GetMapping("/{id}/pre-screen")
+    public ResponseEntity<PreScreenResultDto> getPreScreen(@PathVariable Long id) {
+        return ResponseEntity.ok(applicationService.getPreScreen(id));
+    }
+
     // PRE-SCREEN (STAFF only)
     @Operation(
             summary = "Run pre-screen checks on an application",
-            description = "Used by STAFF to evaluate eligibility + document completeness and produce a pre-screen decision."
+            description = "Used by STAFF to evaluate eligibility + document completeness now and store the pre-screen decision."
     )
     @ApiResponse(responseCode = "200", description = "Pre-screen result generated")
     @PreAuthorize("hasRole('STAFF')")
-    @GetMapping("/{id}/pre-screen")
+    @PostMapping("/{id}/pre-screen")
     public ResponseEntity<PreScreenResultDto> evaluatePreScreen(@PathVariable Long id) {
         PreScreenResultDto result = applicationService.evaluatePreScreen(id);
         return ResponseEntity.ok(result);
     }
 
+    // BULK IMPORT (STAFF only)
+    @Operation(
+            summary = "Import a branch portfolio CSV",
+            description = "Used by STAFF to onboard many applications at once. The request body is the raw CSV (text/csv, " +
+                    "same columns as the demo loan_data.csv) and is streamed, so there is no upload size limit. " +
+                    "Applications are pre-screened on import; invalid rows are skipped and listed in the response."
+    )
+    @ApiResponse(responseCode = "200", description = "Import finished (check failed / errors)")
+    @PreAuthorize("hasRole('STAFF')")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResultDto> importApplications(
+            @RequestParam Long ownerId,
+            HttpServletRequest request) throws IOException {
+
+        return ResponseEntity.ok(applicationImportService.importCsv(request.getInputStream(), ownerId));
+    }
+
+    // BULK PRE-SCREEN (STAFF only)
+    @Operation(
+            summary = "Re-run pre-screen checks on many applications",
+            description = "Used by STAFF after a rule change. Selects applications by ID list or by filter and streams " +
+                    "newline-delimited JSON: one RESULT/ERROR line per application, a PROGRESS line per chunk and a final DONE line."
+    )
+    @ApiResponse(responseCode = "200", description = "Pre-screen results streamed")
+    @PreAuthorize("hasRole('STAFF')")
+    @PostMapping(value = "/pre-screen/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> evaluatePreScreenBatch(@RequestBody BatchPreScreenRequestDto request) {
+        StreamingResponseBody body = out -> preScreenBatchService.reScreen(request, event -> writeLine(out, event));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, BatchPreScreenEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            // Push progress to the client as soon as a chunk is done
+            if (event.getType() != BatchPreScreenEvent.Type.RESULT) out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Client disconnected during bulk pre-screen", e);
+        }
+    }
+
     // LOCK APPLICATION (STAFF only)
     @PreAuthorize("hasRole('STAFF')")
     @PostMapping("/{id}/lock")
     public ResponseEntity<Void> lockApplication(@PathVariable Long id) {
-        Application app = applicationRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Application not found with id " + id));
-
-        app.setLockedByStaff(true);
-        applicationRepository.save(app);
-
+        applicationService.lock(id);
         return ResponseEntity.ok().build();
     }
 }
@@ -1,20 +1,20 @@
 package com.sme.prescreen.controller;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sme.prescreen.domain.dto.UserDto;
 import com.sme.prescreen.domain.entity.User;
 import com.sme.prescreen.domain.enums.UserRole;
 import com.sme.prescreen.repository.UserRepository;
-import com.sme.prescreen.security.JwtUtil;
+import com.sme.prescreen.security.AuthenticatedUser;
+import com.sme.prescreen.security.LoginService;
+import com.sme.prescreen.security.PasswordHasher;
+import com.sme.prescreen.security.TokenService;
+import com.sme.prescreen.service.UserIdAllocator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -22,39 +22,47 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
-    private final JwtUtil jwtUtil;
+    private final LoginService loginService;
+    private final PasswordHasher passwordHasher;
+    private final TokenService tokenService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserIdAllocator userIdAllocator;
 
     // --- LOGIN ENDPOINT ---
     @PostMapping("/login")
     public ResponseEntity<JwtResponse> login(@RequestBody JwtRequest request) {
-        try {
-            // authenticate() expects the Principal (username/id) and Credentials (password)
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getUsername(), // This now maps to "id" from frontend
-                            request.getPassword()
-                    )
-            );
-        } catch (BadCredentialsException e) {
-            throw new BadCredentialsException("Invalid User ID or password");
-        }
+        // request.getUsername() maps to "id" from frontend (user ID or email)
+        User user = loginService.authenticate(request.getUsername(), request.getPassword());
 
-        // Load user details to generate token
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
+        return ResponseEntity.ok(toResponse(tokenService.issue(user)));
+    }
 
-        // Find the actual User entity to return extra info if needed (like role)
-        // casting to your custom UserDetails implementation if needed, or querying DB
-        User user = userRepository.findByUsername(request.getUsername()) // Assuming you have this method
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    // --- REFRESH ENDPOINT ---
+    // Exchanges a refresh token for a new access + refresh pair; the presented refresh token is used up
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponse> refresh(@RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(toResponse(tokenService.refresh(request.getRefreshToken())));
+    }
 
-        String token = jwtUtil.generateToken(userDetails);
+    // --- LOGOUT ENDPOINT ---
+    // Revokes the Bearer token of this request and the refresh token in the body (if any)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthenticatedUser principal,
+                                       @RequestBody(required = false) RefreshRequest request) {
+        tokenService.logout(principal, request == null ? null : request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 
-        // Return token AND the User object so frontend can store role/name
-        return ResponseEntity.ok(new JwtResponse(token, user));
+    // Return tokens AND the user's profile so frontend can store role/name (never the password hash)
+    private static JwtResponse toResponse(TokenService.IssuedTokens tokens) {
+        User user = tokens.user();
+        return new JwtResponse(tokens.accessToken(), tokens.refreshToken(), UserDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .build());
     }
 
     // --- REGISTER ENDPOINT ---
@@ -64,14 +72,13 @@ public class AuthController {
             return ResponseEntity.badRequest().body(java.util.Map.of("message", "Error: Email is already in use!"));
         }
 
-        long count = userRepository.count() + 1;
-        String generatedId = request.getRole().name() + "-" + count;
+        String generatedId = userIdAllocator.nextUsername(request.getRole());
 
         User newUser = User.builder()
                 .username(generatedId)
                 .fullName(request.getFullName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .role(request.getRole())
                 .build();
 
@@ -88,7 +95,7 @@ public class AuthController {
     public ResponseEntity<?> getUserIdByEmail(@RequestBody java.util.Map<String, String> request) {
         String email = request.get("email");
 
-        User user = userRepository.findByEmail(email)
+        UserRepository.UserIdentity user = userRepository.findIdentityByEmail(email)
                 .orElseThrow(() -> new RuntimeException("No user found with this email."));
 
         // In a real production app, you would email this.
@@ -114,7 +121,13 @@ public class AuthController {
     @AllArgsConstructor
     public static class JwtResponse {
         private String token;
-        private User user; // Return full user details to frontend
+        private String refreshToken;
+        private UserDto user;
+    }
+
+    @Data
+    public static class RefreshRequest {
+        private String refreshToken;
     }
 
     @Data
@@ -1,13 +1,19 @@
 package com.sme.prescreen.controller;
 
-import com.sme.prescreen.domain.entity.ApplicationComment;
-import com.sme.prescreen.domain.entity.User;
-import com.sme.prescreen.repository.ApplicationCommentRepository;
-import com.sme.prescreen.security.AuthFacade;
+import com.sme.prescreen.domain.dto.CommentDto;
+import com.sme.prescreen.domain.dto.CommentPageDto;
+import com.sme.prescreen.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -15,32 +21,53 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/applications/{applicationId}/comments")
 @RequiredArgsConstructor
+@Validated
 public class CommentController {
 
-    private final ApplicationCommentRepository commentRepository;
-    private final AuthFacade authFacade;
+    private final CommentService commentService;
 
+    @Operation(
+            summary = "Get the full comment thread",
+            description = "Returns every comment in one response. Prefer /comments/page plus /comments/stream.",
+            deprecated = true
+    )
     @GetMapping
     @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
-    public ResponseEntity<List<ApplicationComment>> getComments(@PathVariable Long applicationId) {
-        return ResponseEntity.ok(commentRepository.findByApplicationIdOrderByCreatedAtDesc(applicationId));
+    public ResponseEntity<List<CommentDto>> getComments(@PathVariable Long applicationId) {
+        return ResponseEntity.ok(commentService.getAll(applicationId));
     }
 
-    @PostMapping
+    @Operation(
+            summary = "List comments page by page",
+            description = "Keyset-paginated thread history, newest first. Pass the returned nextCursor to fetch older comments."
+    )
+    @ApiResponse(responseCode = "200", description = "Page returned")
+    @GetMapping("/page")
     @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
-    public ResponseEntity<ApplicationComment> addComment(
+    public ResponseEntity<CommentPageDto> getCommentPage(
             @PathVariable Long applicationId,
-            @RequestBody Map<String, String> payload) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(commentService.getPage(applicationId, cursor, size));
+    }
 
-        User user = authFacade.getCurrentUser();
+    @Operation(
+            summary = "Stream new comments",
+            description = "Server-Sent Events: one 'comment' event per comment posted on the application after the " +
+                    "stream is opened. Open the stream before loading history and de-duplicate by id."
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
+    public SseEmitter streamComments(@PathVariable Long applicationId) {
+        return commentService.subscribe(applicationId);
+    }
 
-        ApplicationComment comment = ApplicationComment.builder()
-                .applicationId(applicationId)
-                .authorName(user.getFullName())
-                .authorRole(user.getRole().name())
-                .message(payload.get("message"))
-                .build();
+    @PostMapping
+    @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
+    public ResponseEntity<CommentDto> addComment(
+            @PathVariable Long applicationId,
+            @RequestBody Map<String, String> payload) {
 
-        return ResponseEntity.ok(commentRepository.save(comment));
+        return ResponseEntity.ok(commentService.addComment(applicationId, payload.get("message")));
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,26 @@
 package com.sme.prescreen.controller;
 
+import com.sme.prescreen.api.ConditionalGet;
+import com.sme.prescreen.api.FileResponseWriter;
 import com.sme.prescreen.domain.dto.ApplicationDocumentDto;
 import com.sme.prescreen.domain.dto.DocSummary;
-import com.sme.prescreen.domain.entity.Application;
-import com.sme.prescreen.domain.entity.ApplicationDocument;
 import com.sme.prescreen.domain.enums.DocumentStatus;
 import com.sme.prescreen.domain.enums.DocumentType;
-import com.sme.prescreen.repository.ApplicationRepository;
 import com.sme.prescreen.security.AuthFacade;
 import com.sme.prescreen.service.DocumentService;
-import jakarta.annotation.Resource;
-import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+import java.io.IOException;
 import java.util.List;
 
 @Tag(
@@ -33,7 +33,6 @@ import java.util.List;
 public class DocumentController {
 
     private final DocumentService documentService;
-    private final ApplicationRepository applicationRepository;
     private final AuthFacade authFacade;
 
     // UPLOAD (APPLICANT, owns app, not locked)
@@ -42,29 +41,23 @@ public class DocumentController {
             description = "Used by APPLICANT to upload mandatory documents like PAN, Aadhaar, ITR, bank statements etc."
     )
     @ApiResponse(responseCode = "200", description = "Document uploaded")
+    @ApiResponse(responseCode = "409", description = "Application locked by staff")
     @PreAuthorize("hasRole('APPLICANT') and @authFacade.canAccessApplication(#applicationId)")
     @PostMapping
-    public ResponseEntity<ApplicationDocument> uploadDocument(
+    public ResponseEntity<ApplicationDocumentDto> uploadDocument(
             @PathVariable Long applicationId,
             @RequestParam("docType") DocumentType docType,
             @RequestParam("file") MultipartFile file) {
 
-        Application app = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new EntityNotFoundException("Application not found"));
-
-        if (app.isLockedByStaff()) {
-            throw new RuntimeException("Application is locked. Cannot upload documents.");
-        }
-
-        ApplicationDocument saved = documentService.uploadDocument(applicationId, docType, file);
-        return ResponseEntity.ok(saved);
+        return ResponseEntity.ok(documentService.uploadDocument(applicationId, docType, file));
     }
 
     // LIST DOCS (owner or STAFF)
     @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
     @GetMapping
-    public ResponseEntity<List<ApplicationDocumentDto>> listDocuments(@PathVariable Long applicationId) {
-        return ResponseEntity.ok(documentService.getDocumentsForApplication(applicationId));
+    public ResponseEntity<List<ApplicationDocumentDto>> listDocuments(@PathVariable Long applicationId, WebRequest request) {
+        return ConditionalGet.respond(request, documentService.getDocumentsEtag(applicationId),
+                () -> documentService.getDocumentsForApplication(applicationId));
     }
 
     // SUMMARY (owner or STAFF)
@@ -73,10 +66,12 @@ public class DocumentController {
             description = "Returns whether KYC, income proof and business proof categories are complete for the given application."
     )
     @ApiResponse(responseCode = "200", description = "Summary returned")
+    @ApiResponse(responseCode = "304", description = "Unchanged since the ETag in If-None-Match")
     @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
     @GetMapping("/summary")
-    public ResponseEntity<DocSummary> getSummary(@PathVariable Long applicationId) {
-        return ResponseEntity.ok(documentService.getDocSummary(applicationId));
+    public ResponseEntity<DocSummary> getSummary(@PathVariable Long applicationId, WebRequest request) {
+        return ConditionalGet.respond(request, documentService.getDocumentsEtag(applicationId),
+                () -> documentService.getDocSummary(applicationId));
     }
 
     // UPDATE STATUS (STAFF only)
@@ -88,37 +83,21 @@ public class DocumentController {
 
         return ResponseEntity.ok(documentService.updateDocumentStatus(documentId, status));
     }
+    // PREVIEW (owner or STAFF): ETag/304, byte ranges for incremental PDF loading, zero-copy transfer
+    @Operation(
+            summary = "Preview or download a document",
+            description = "Streams the stored file. Supports If-None-Match (304) and single byte ranges (206) so PDF viewers can load pages incrementally."
+    )
+    @ApiResponse(responseCode = "200", description = "File returned")
     @GetMapping("/{documentId}/preview")
     @PreAuthorize("@authFacade.canAccessApplication(#applicationId)")
-    public ResponseEntity<Resource> previewDocument(
+    public void previewDocument(
             @PathVariable Long applicationId,
-            @PathVariable Long documentId) {
-
-        // 1. Find the document metadata
-        // Note: You might need to add findById to your service or repo, or just use repo here for simplicity
-        // Ideally, do this in service, but for brevity:
-        com.sme.prescreen.domain.entity.ApplicationDocument doc = documentService.getDocumentsForApplication(applicationId).stream()
-                .filter(d -> d.getId().equals(documentId))
-                .map(dto -> com.sme.prescreen.domain.entity.ApplicationDocument.builder().filePath(dto.getFilePath()).build()) // Quick hack to get path
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Document not found"));
-
-        // 2. Load file
-        Resource file = (Resource) documentService.loadFileAsResource(doc.getFilePath());
-
-        // 3. Determine Content Type (PDF or Image)
-        String contentType = "application/octet-stream";
-        try {
-            if (doc.getFilePath().toLowerCase().endsWith(".pdf")) contentType = "application/pdf";
-            else if (doc.getFilePath().toLowerCase().endsWith(".jpg")) contentType = "image/jpeg";
-            else if (doc.getFilePath().toLowerCase().endsWith(".png")) contentType = "image/png";
-        } catch (Exception ex) { }
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + doc.getFilePath() + "\"")
-                .body(file);
+        DocumentService.DocumentFile doc = documentService.loadDocumentFile(applicationId, documentId);
+        FileResponseWriter.write(request, response, doc.getPath(), doc.getMediaType(), doc.getFilename(), doc.getEtag());
     }
 }
-
-
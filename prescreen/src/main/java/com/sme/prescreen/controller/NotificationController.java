@@ -0,0 +1,30 @@
+package com.sme.prescreen.controller;
+
+import com.sme.prescreen.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Operation(
+            summary = "Stream changes to the caller's applications",
+            description = "Server-Sent Events named PRE_SCREEN, DOCUMENT_STATUS and LOCKED, each carrying the application ID " +
+                    "and only the changed fields (new pre-screen result, document ID and status, locked flag)."
+    )
+    @PreAuthorize("hasAnyRole('APPLICANT','STAFF')")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return notificationService.subscribe();
+    }
+}
@@ -2,6 +2,7 @@ package com.sme.prescreen.domain.dto;
 
 import com.sme.prescreen.domain.enums.DocumentStatus;
 import com.sme.prescreen.domain.enums.DocumentType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,7 @@ import java.time.Instant;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ApplicationDocumentDto {
 
     private Long id;
@@ -16,5 +18,17 @@ public class ApplicationDocumentDto {
     private String docDisplayName;
     private DocumentStatus status;
     private String filePath;
+    private String originalFilename;
+    private String mediaType;
+    private Long sizeBytes;
+    private String sha256;
     private Instant uploadedAt;
+
+    // JPQL projection (ApplicationDocumentRepository); the display name comes from the enum
+    public ApplicationDocumentDto(Long id, DocumentType docType, DocumentStatus status, String filePath,
+                                  String originalFilename, String mediaType, Long sizeBytes, String sha256,
+                                  Instant uploadedAt) {
+        this(id, docType, docType.getDisplayName(), status, filePath, originalFilename, mediaType, sizeBytes,
+                sha256, uploadedAt);
+    }
 }
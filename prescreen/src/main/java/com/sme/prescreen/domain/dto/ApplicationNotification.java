@@ -0,0 +1,35 @@
+package com.sme.prescreen.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sme.prescreen.domain.enums.DocumentStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Change to one of the caller's applications, pushed on /api/notifications/stream")
+public class ApplicationNotification {
+
+    public enum Type { PRE_SCREEN, DOCUMENT_STATUS, LOCKED }
+
+    private Type type;
+
+    private Long applicationId;
+
+    // PRE_SCREEN
+    private PreScreenResult preScreenResult;
+
+    // DOCUMENT_STATUS
+    private Long documentId;
+    private DocumentStatus documentStatus;
+
+    // LOCKED
+    private Boolean locked;
+
+    private Instant occurredAt;
+}
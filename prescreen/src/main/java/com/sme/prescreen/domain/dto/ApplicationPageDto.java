@@ -0,0 +1,20 @@
+package com.sme.prescreen.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "One page of applications, newest first")
+public class ApplicationPageDto {
+
+    private List<ApplicationResponseDto> items;
+
+    @Schema(description = "Pass as cursor to fetch the next page; null on the last page")
+    private String nextCursor;
+
+    private boolean hasMore;
+}
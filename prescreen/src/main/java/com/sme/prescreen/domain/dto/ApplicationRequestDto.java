@@ -33,4 +33,8 @@ public class ApplicationRequestDto {
     @Min(0)
     @Schema(example = "3")
     private Integer yearsInBusiness;
+
+    // Updates only: the version the edit is based on; a stale one is rejected with 409. Omit to skip the check.
+    @Schema(example = "4")
+    private Long version;
 }
@@ -3,14 +3,17 @@ package com.sme.prescreen.domain.dto;
 import com.sme.prescreen.domain.enums.EligibilityStatus;
 import com.sme.prescreen.domain.enums.PreScreenResult;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
+// Constructor order is used by the criteria projection in ApplicationRepositoryCustomImpl
 @Data
 @Builder
+@AllArgsConstructor
 @Schema(description = "Response DTO representing an SME loan application")
 public class ApplicationResponseDto {
 
@@ -38,9 +41,15 @@ public class ApplicationResponseDto {
     @Schema(example = "BLOCKED_MISSING_DOCS")
     private PreScreenResult preScreenResult;
 
+    @Schema(example = "2024.1")
+    private String eligibilityRuleVersion;
+
     @Schema(example = "LOS-2025-000123")
     private String losApplicationId;
 
+    @Schema(example = "4")
+    private Long version;
+
     private Instant createdAt;
     private Instant updatedAt;
 }
@@ -0,0 +1,36 @@
+package com.sme.prescreen.domain.dto;
+
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Schema(description = "Filters and cursor for the paginated application listing")
+public class ApplicationSearchDto {
+
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    @Schema(example = "20")
+    private Integer size = 20;
+
+    @Schema(example = "BLOCKED_MISSING_DOCS")
+    private PreScreenResult preScreenResult;
+
+    @Schema(example = "ELIGIBLE")
+    private EligibilityStatus eligibilityStatus;
+
+    @Schema(example = "0-50L")
+    private String turnoverBand;
+
+    @Schema(example = "PROPRIETORSHIP")
+    private String businessType;
+
+    @Schema(description = "Owner user ID (STAFF only; applicants always see their own applications)", example = "2")
+    private Long ownerId;
+}
@@ -0,0 +1,35 @@
+package com.sme.prescreen.domain.dto;
+
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "Pipeline health for the staff dashboard: application counts and requested amounts")
+public class ApplicationStatsDto {
+
+    @Schema(example = "250")
+    private long totalApplications;
+
+    @Schema(example = "{\"READY\": 120, \"BLOCKED_MISSING_DOCS\": 90, \"BLOCKED_INELIGIBLE\": 40}")
+    private Map<PreScreenResult, Long> byPreScreenResult;
+
+    @Schema(example = "{\"ELIGIBLE\": 200, \"INELIGIBLE\": 30, \"PENDING\": 20}")
+    private Map<EligibilityStatus, Long> byEligibilityStatus;
+
+    @Schema(example = "{\"0-50L\": 80, \"1Cr-5Cr\": 90, \"5Cr+\": 80}")
+    private Map<String, Long> byTurnoverBand;
+
+    @Schema(description = "Sum of requested loan amounts per turnover band")
+    private Map<String, BigDecimal> requestedAmountByTurnoverBand;
+
+    @Schema(description = "When the counters were last rebuilt from the database")
+    private Instant lastReconciledAt;
+}
@@ -0,0 +1,29 @@
+package com.sme.prescreen.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "One line of the bulk pre-screen stream (RESULT, ERROR, PROGRESS or DONE)")
+public class BatchPreScreenEvent {
+
+    public enum Type { RESULT, ERROR, PROGRESS, DONE }
+
+    private Type type;
+
+    // RESULT
+    private PreScreenResultDto result;
+
+    // ERROR
+    private Long applicationId;
+    private String message;
+
+    // PROGRESS / DONE (failed: ERROR lines so far, included in processed)
+    private Long processed;
+    private Long failed;
+    private Long total;
+}
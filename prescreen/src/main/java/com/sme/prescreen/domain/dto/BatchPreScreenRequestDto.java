@@ -0,0 +1,23 @@
+package com.sme.prescreen.domain.dto;
+
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Selects the applications to re-screen: either an explicit ID list, or every application matching the filters")
+public class BatchPreScreenRequestDto {
+
+    @Schema(description = "Application IDs to re-screen. When empty, the filters below are used instead.",
+            example = "[1, 2, 3]")
+    private List<Long> applicationIds;
+
+    @Schema(description = "Only re-screen applications currently in this state (optional)", example = "BLOCKED_MISSING_DOCS")
+    private PreScreenResult preScreenResult;
+
+    @Schema(description = "Only re-screen applications with this eligibility status (optional)", example = "PENDING")
+    private EligibilityStatus eligibilityStatus;
+}
@@ -0,0 +1,33 @@
+package com.sme.prescreen.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// Constructor order is used by the JPQL projections in ApplicationCommentRepository
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "One message in an application's comment thread")
+public class CommentDto {
+
+    @Schema(example = "42")
+    private Long id;
+
+    @Schema(example = "1")
+    private Long applicationId;
+
+    @Schema(example = "Priya Sharma")
+    private String authorName;
+
+    @Schema(example = "STAFF")
+    private String authorRole;
+
+    @Schema(example = "Please upload the last 3 years of ITR.")
+    private String message;
+
+    private Instant createdAt;
+}
@@ -0,0 +1,20 @@
+package com.sme.prescreen.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "One page of an application's comment thread, newest first")
+public class CommentPageDto {
+
+    private List<CommentDto> items;
+
+    @Schema(description = "Pass as cursor to fetch older comments; null on the last page")
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -12,4 +12,5 @@ public class EligibilityResult {
 
     private EligibilityStatus status;      // ELIGIBLE / INELIGIBLE / PENDING
     private List<String> reasons;          // e.g. "TURNOVER_TOO_LOW", "BUSINESS_TOO_NEW"
+    private String ruleVersion;            // version of the rule set that produced this result
 }
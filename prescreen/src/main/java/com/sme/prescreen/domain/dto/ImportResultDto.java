@@ -0,0 +1,44 @@
+package com.sme.prescreen.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "Outcome of a bulk CSV import of loan applications")
+public class ImportResultDto {
+
+    @Schema(description = "Data rows read (header and blank lines excluded)", example = "250000")
+    private long rowsRead;
+
+    @Schema(example = "249990")
+    private long imported;
+
+    @Schema(example = "10")
+    private long failed;
+
+    @Schema(description = "Row errors, capped (see errorsTruncated)")
+    private List<RowError> errors;
+
+    private boolean errorsTruncated;
+
+    @Schema(example = "8421")
+    private long durationMs;
+
+    @Getter
+    @Builder
+    public static class RowError {
+
+        @Schema(description = "1-based line in the file where the record starts", example = "42")
+        private long line;
+
+        @Schema(example = "SMEServ41")
+        private String losApplicationId;
+
+        @Schema(example = "Invalid loan amount: 12,00")
+        private String message;
+    }
+}
@@ -26,6 +26,9 @@ public class PreScreenResultDto {
             example = "[\"BUSINESS_TOO_NEW\", \"TURNOVER_TOO_LOW\"]")
     private List<String> eligibilityReasons;
 
+    @Schema(description = "Version of the eligibility rules that produced this decision", example = "2024.1")
+    private String eligibilityRuleVersion;
+
     @Schema(example = "6")
     private int totalRequiredDocs;
 
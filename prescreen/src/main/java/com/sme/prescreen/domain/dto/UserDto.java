@@ -0,0 +1,27 @@
+package com.sme.prescreen.domain.dto;
+
+import com.sme.prescreen.domain.enums.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "The logged-in user, as shown by the frontend")
+public class UserDto {
+
+    @Schema(example = "7")
+    private Long id;
+
+    @Schema(example = "APPLICANT-7")
+    private String username;
+
+    @Schema(example = "Ravi Kumar")
+    private String fullName;
+
+    @Schema(example = "ravi@example.com")
+    private String email;
+
+    @Schema(example = "APPLICANT")
+    private UserRole role;
+}
@@ -4,6 +4,8 @@ import com.sme.prescreen.domain.enums.EligibilityStatus;
 import com.sme.prescreen.domain.enums.PreScreenResult;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,7 +13,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications")  // indexes: db/migration
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "applications")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -48,6 +52,8 @@ public class Application {
     @Column(nullable = false)
     private PreScreenResult preScreenResult;       // READY / BLOCKED_MISSING_DOCS / BLOCKED_INELIGIBLE
 
+    private String eligibilityRuleVersion;         // rule set version behind eligibilityStatus
+
     // Integration with LOS (core loan system)
     private String losApplicationId;
 
@@ -65,5 +71,10 @@ public class Application {
     @Column(nullable = false)
     private Long ownerId;    // ID of the applicant user
 
+    // Optimistic lock; also bumped by the guarded JDBC writes in ApplicationRepositoryCustomImpl
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Later: map documents here
 }
@@ -6,7 +6,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "application_comments")
+@Table(name = "application_comments")  // indexes: db/migration
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,9 +34,23 @@ public class ApplicationDocument {
     private DocumentStatus status;   // UPLOADED / VERIFIED / REJECTED
 
     @Column(nullable = false)
-    private String filePath;         // path/URL/filename
+    private String filePath;         // path/URL/filename (content-addressed: "ab/cd/<sha256>")
+
+    private String originalFilename; // name as uploaded by the applicant
+
+    private Long sizeBytes;
+
+    @Column(length = 64)
+    private String sha256;           // hex digest of the stored content
+
+    private String mediaType;        // detected from file content, e.g. "application/pdf"
 
     @CreationTimestamp
     @Column(updatable = false)
     private Instant uploadedAt;
+
+    // Optimistic lock; part of the documents ETag (status changes bump it)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
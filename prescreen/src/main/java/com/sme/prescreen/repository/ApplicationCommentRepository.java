@@ -1,9 +1,32 @@
 package com.sme.prescreen.repository;
 
+import com.sme.prescreen.domain.dto.CommentDto;
 import com.sme.prescreen.domain.entity.ApplicationComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
 import java.util.List;
 
 public interface ApplicationCommentRepository extends JpaRepository<ApplicationComment, Long> {
-    List<ApplicationComment> findByApplicationIdOrderByCreatedAtDesc(Long applicationId);
-}
\ No newline at end of file
+
+    // Reads project straight into CommentDto: only the listed columns, nothing enters the persistence context
+
+    // Newest first (served by idx_comments_application_created_id); Limit.unlimited() for the whole thread
+    @Query("select new com.sme.prescreen.domain.dto.CommentDto(c.id, c.applicationId, c.authorName, c.authorRole, " +
+            "c.message, c.createdAt) from ApplicationComment c where c.applicationId = :applicationId " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentDto> findLatest(@Param("applicationId") Long applicationId, Limit limit);
+
+    // Comments older than the cursor row
+    @Query("select new com.sme.prescreen.domain.dto.CommentDto(c.id, c.applicationId, c.authorName, c.authorRole, " +
+            "c.message, c.createdAt) from ApplicationComment c where c.applicationId = :applicationId " +
+            "and c.createdAt <= :createdAt and (c.createdAt < :createdAt or c.id < :id) " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentDto> findPageBefore(@Param("applicationId") Long applicationId,
+                                    @Param("createdAt") Instant createdAt,
+                                    @Param("id") Long id,
+                                    Limit limit);
+}
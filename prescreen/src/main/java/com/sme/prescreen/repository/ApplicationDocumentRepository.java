@@ -1,16 +1,66 @@
 package com.sme.prescreen.repository;
 
+import com.sme.prescreen.domain.dto.ApplicationDocumentDto;
 import com.sme.prescreen.domain.entity.ApplicationDocument;
 import com.sme.prescreen.domain.enums.DocumentType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ApplicationDocumentRepository extends JpaRepository<ApplicationDocument, Long> {
+public interface ApplicationDocumentRepository extends JpaRepository<ApplicationDocument, Long>,
+        ApplicationDocumentRepositoryCustom {
 
     boolean existsByApplicationIdAndDocType(Long applicationId, DocumentType docType);
 
-    List<ApplicationDocument> findByApplicationId(Long applicationId);
+    // Document list, projected straight into the response DTO
+    @Query("select new com.sme.prescreen.domain.dto.ApplicationDocumentDto(d.id, d.docType, d.status, d.filePath, " +
+            "d.originalFilename, d.mediaType, d.sizeBytes, d.sha256, d.uploadedAt) " +
+            "from ApplicationDocument d where d.application.id = :applicationId order by d.id")
+    List<ApplicationDocumentDto> findDtosByApplicationId(@Param("applicationId") Long applicationId);
+
+    // What preview/download needs to serve the file
+    @Query("select d.filePath as filePath, d.mediaType as mediaType, d.originalFilename as originalFilename, " +
+            "d.sha256 as sha256 from ApplicationDocument d where d.id = :id and d.application.id = :applicationId")
+    Optional<StoredFile> findStoredFile(@Param("id") Long id, @Param("applicationId") Long applicationId);
+
+    // Changes whenever a document is added, removed or changes status: the ETag source for the list and summary
+    @Query("select count(d) as count, max(d.id) as maxId, sum(d.version) as versionSum " +
+            "from ApplicationDocument d where d.application.id = :applicationId")
+    DocumentsVersion findDocumentsVersion(@Param("applicationId") Long applicationId);
+
+    // Doc types that count towards the summary (anything not REJECTED), one row per type
+    @Query("select distinct d.docType from ApplicationDocument d " +
+            "where d.application.id = :applicationId " +
+            "and d.status <> com.sme.prescreen.domain.enums.DocumentStatus.REJECTED")
+    List<DocumentType> findSatisfiedDocTypes(@Param("applicationId") Long applicationId);
+
+    // Same as above for many applications in one round trip
+    @Query("select distinct d.application.id as applicationId, d.docType as docType from ApplicationDocument d " +
+            "where d.application.id in :applicationIds " +
+            "and d.status <> com.sme.prescreen.domain.enums.DocumentStatus.REJECTED")
+    List<SatisfiedDocType> findSatisfiedDocTypes(@Param("applicationIds") Collection<Long> applicationIds);
+
+    interface StoredFile {
+        String getFilePath();
+        String getMediaType();
+        String getOriginalFilename();
+        String getSha256();
+    }
+
+    interface DocumentsVersion {
+        long getCount();
+        Long getMaxId();    // null when there are no documents
+        Long getVersionSum();
+    }
+
+    interface SatisfiedDocType {
+        Long getApplicationId();
+        DocumentType getDocType();
+    }
 }
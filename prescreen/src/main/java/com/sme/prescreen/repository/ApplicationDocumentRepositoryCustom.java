@@ -0,0 +1,12 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.entity.ApplicationDocument;
+
+import java.util.Optional;
+
+public interface ApplicationDocumentRepositoryCustom {
+
+    // Inserts the document in one statement only while the application is unlocked.
+    // Returns it with id and uploadedAt set; empty when the application is locked or does not exist.
+    Optional<ApplicationDocument> insertIfUnlocked(Long applicationId, ApplicationDocument document);
+}
@@ -0,0 +1,43 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.entity.ApplicationDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class ApplicationDocumentRepositoryCustomImpl implements ApplicationDocumentRepositoryCustom {
+
+    // FOR SHARE makes a concurrent lock wait for this insert (or this insert see the lock), never both pass
+    private static final String INSERT_IF_UNLOCKED_SQL =
+            "insert into application_documents (application_id, doc_type, status, file_path, original_filename, " +
+            "size_bytes, sha256, media_type, uploaded_at) " +
+            "select id, ?, ?, ?, ?, ?, ?, ?, ? from applications where id = ? and locked_by_staff = false for share " +
+            "returning id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<ApplicationDocument> insertIfUnlocked(Long applicationId, ApplicationDocument document) {
+        Instant uploadedAt = Instant.now();
+        Optional<Long> id = jdbcTemplate.queryForList(INSERT_IF_UNLOCKED_SQL, Long.class,
+                document.getDocType().name(),
+                document.getStatus().name(),
+                document.getFilePath(),
+                document.getOriginalFilename(),
+                document.getSizeBytes(),
+                document.getSha256(),
+                document.getMediaType(),
+                Timestamp.from(uploadedAt),
+                applicationId).stream().findFirst();
+
+        id.ifPresent(value -> {
+            document.setId(value);
+            document.setUploadedAt(uploadedAt);
+        });
+        return id.map(value -> document);
+    }
+}
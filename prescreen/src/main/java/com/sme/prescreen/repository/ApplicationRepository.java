@@ -1,13 +1,62 @@
 package com.sme.prescreen.repository;
 
 import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, JpaSpecificationExecutor<Application>,
+        ApplicationRepositoryCustom {
 
-    List<Application> findByOwnerId(Long ownerId);
+    // Ownership checks only need this one column
+    @Query("select a.ownerId from Application a where a.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    // Conditional GET: the version alone decides whether the client's copy is current
+    @Query("select a.version from Application a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Tells apart why a guarded write matched no row: empty = no such application
+    @Query("select a.lockedByStaff from Application a where a.id = :id")
+    Optional<Boolean> findLockedById(@Param("id") Long id);
+
+    // Keyset chunk for bulk re-screening: next applications after the given id, optional filters
+    @Query("select a from Application a where a.id > :afterId " +
+            "and (:preScreenResult is null or a.preScreenResult = :preScreenResult) " +
+            "and (:eligibilityStatus is null or a.eligibilityStatus = :eligibilityStatus) " +
+            "order by a.id")
+    List<Application> findChunkAfter(@Param("afterId") Long afterId,
+                                     @Param("preScreenResult") PreScreenResult preScreenResult,
+                                     @Param("eligibilityStatus") EligibilityStatus eligibilityStatus,
+                                     Limit limit);
+
+    @Query("select count(a) from Application a " +
+            "where (:preScreenResult is null or a.preScreenResult = :preScreenResult) " +
+            "and (:eligibilityStatus is null or a.eligibilityStatus = :eligibilityStatus)")
+    long countMatching(@Param("preScreenResult") PreScreenResult preScreenResult,
+                       @Param("eligibilityStatus") EligibilityStatus eligibilityStatus);
+
+    // Rebuild source for the dashboard counters: one row per (result, status, band) combination
+    @Query("select a.preScreenResult as preScreenResult, a.eligibilityStatus as eligibilityStatus, " +
+            "a.turnoverBand as turnoverBand, count(a) as applications, sum(a.requestedLoanAmount) as requestedLoanAmount " +
+            "from Application a group by a.preScreenResult, a.eligibilityStatus, a.turnoverBand")
+    List<StatsGroup> aggregateStats();
+
+    interface StatsGroup {
+        PreScreenResult getPreScreenResult();
+        EligibilityStatus getEligibilityStatus();
+        String getTurnoverBand();
+        long getApplications();
+        BigDecimal getRequestedLoanAmount();
+    }
 }
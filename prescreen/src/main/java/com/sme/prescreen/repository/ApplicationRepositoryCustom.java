@@ -0,0 +1,27 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.dto.ApplicationResponseDto;
+import com.sme.prescreen.domain.entity.Application;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ApplicationRepositoryCustom {
+
+    // Listing projected straight into the response DTO, newest first (created_at desc, id desc)
+    List<ApplicationResponseDto> findResponses(Specification<Application> spec, Limit limit);
+
+    // Guarded writes: one UPDATE that checks the lock (and version) in its WHERE clause instead of read-check-write.
+    // Empty means the guard rejected the write or the application does not exist (see findLockedById).
+
+    // Applicant edit of the business details; expectedVersion null skips the optimistic check
+    Optional<Edit> updateDetailsIfUnlocked(Long id, Long expectedVersion, Application details);
+
+    // Staff lock; empty when already locked
+    Optional<Application> lockIfUnlocked(Long id);
+
+    // Row before and after an edit ("before" only differs in the columns the edit sets)
+    record Edit(Application before, Application after) {}
+}
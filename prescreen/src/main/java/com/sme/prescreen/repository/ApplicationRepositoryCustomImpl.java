@@ -0,0 +1,156 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.dto.ApplicationResponseDto;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class ApplicationRepositoryCustomImpl implements ApplicationRepositoryCustom {
+
+    private static final String COLUMNS = "id, applicant_name, business_type, turnover_band, requested_loan_amount, " +
+            "years_in_business, eligibility_status, pre_screen_result, eligibility_rule_version, los_application_id, " +
+            "created_at, updated_at, locked_by_staff, owner_id, version";
+
+    // The FOR UPDATE sub-select hands back the previous values in the same round trip (needed for the stats deltas)
+    private static final String UPDATE_DETAILS_SQL =
+            "update applications a set applicant_name = ?, business_type = ?, turnover_band = ?, " +
+            "requested_loan_amount = ?, years_in_business = ?, updated_at = ?, version = a.version + 1 " +
+            "from (select id, applicant_name, business_type, turnover_band, requested_loan_amount, years_in_business " +
+            "from applications where id = ? for update) old " +
+            "where a.id = old.id and a.locked_by_staff = false and (cast(? as bigint) is null or a.version = ?) " +
+            "returning a.id, a.applicant_name, a.business_type, a.turnover_band, a.requested_loan_amount, " +
+            "a.years_in_business, a.eligibility_status, a.pre_screen_result, a.eligibility_rule_version, " +
+            "a.los_application_id, a.created_at, a.updated_at, a.locked_by_staff, a.owner_id, a.version, " +
+            "old.applicant_name as old_applicant_name, old.business_type as old_business_type, " +
+            "old.turnover_band as old_turnover_band, old.requested_loan_amount as old_requested_loan_amount, " +
+            "old.years_in_business as old_years_in_business";
+
+    private static final String LOCK_SQL =
+            "update applications set locked_by_staff = true, updated_at = ?, version = version + 1 " +
+            "where id = ? and locked_by_staff = false returning " + COLUMNS;
+
+    private static final RowMapper<Application> APPLICATION = (rs, rowNum) -> map(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicationResponseDto> findResponses(Specification<Application> spec, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicationResponseDto> query = cb.createQuery(ApplicationResponseDto.class);
+        Root<Application> root = query.from(Application.class);
+
+        query.select(cb.construct(ApplicationResponseDto.class,
+                root.get("id"), root.get("applicantName"), root.get("businessType"), root.get("turnoverBand"),
+                root.get("requestedLoanAmount"), root.get("yearsInBusiness"), root.get("eligibilityStatus"),
+                root.get("preScreenResult"), root.get("eligibilityRuleVersion"), root.get("losApplicationId"),
+                root.get("version"), root.get("createdAt"), root.get("updatedAt")));
+
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) query.where(where);
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        TypedQuery<ApplicationResponseDto> typed = entityManager.createQuery(query);
+        if (limit.isLimited()) typed.setMaxResults(limit.max());
+        return typed.getResultList();
+    }
+
+    @Override
+    public Optional<Edit> updateDetailsIfUnlocked(Long id, Long expectedVersion, Application details) {
+        Optional<Edit> edit = jdbcTemplate.query(UPDATE_DETAILS_SQL, ps -> {
+            ps.setString(1, details.getApplicantName());
+            ps.setString(2, details.getBusinessType());
+            ps.setString(3, details.getTurnoverBand());
+            ps.setBigDecimal(4, details.getRequestedLoanAmount());
+            ps.setInt(5, details.getYearsInBusiness());
+            ps.setTimestamp(6, Timestamp.from(Instant.now()));
+            ps.setLong(7, id);
+            ps.setObject(8, expectedVersion, Types.BIGINT);
+            ps.setObject(9, expectedVersion, Types.BIGINT);
+        }, (rs, rowNum) -> {
+            Application after = map(rs);
+            Application before = map(rs);
+            before.setApplicantName(rs.getString("old_applicant_name"));
+            before.setBusinessType(rs.getString("old_business_type"));
+            before.setTurnoverBand(rs.getString("old_turnover_band"));
+            before.setRequestedLoanAmount(rs.getBigDecimal("old_requested_loan_amount"));
+            before.setYearsInBusiness(rs.getInt("old_years_in_business"));
+            return new Edit(before, after);
+        }).stream().findFirst();
+
+        edit.ifPresent(e -> evict(id));
+        return edit;
+    }
+
+    @Override
+    public Optional<Application> lockIfUnlocked(Long id) {
+        Optional<Application> locked = jdbcTemplate.query(LOCK_SQL, APPLICATION, Timestamp.from(Instant.now()), id)
+                .stream().findFirst();
+
+        locked.ifPresent(app -> evict(id));
+        return locked;
+    }
+
+    // The JDBC write bypasses Hibernate, so drop the second-level cache entry now and again after commit
+    // (a concurrent reader can cache the old row until then)
+    private void evict(Long id) {
+        entityManagerFactory.getCache().evict(Application.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entityManagerFactory.getCache().evict(Application.class, id);
+                }
+            });
+        }
+    }
+
+    private static Application map(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return Application.builder()
+                .id(rs.getLong("id"))
+                .applicantName(rs.getString("applicant_name"))
+                .businessType(rs.getString("business_type"))
+                .turnoverBand(rs.getString("turnover_band"))
+                .requestedLoanAmount(rs.getBigDecimal("requested_loan_amount"))
+                .yearsInBusiness(rs.getInt("years_in_business"))
+                .eligibilityStatus(EligibilityStatus.valueOf(rs.getString("eligibility_status")))
+                .preScreenResult(PreScreenResult.valueOf(rs.getString("pre_screen_result")))
+                .eligibilityRuleVersion(rs.getString("eligibility_rule_version"))
+                .losApplicationId(rs.getString("los_application_id"))
+                .createdAt(createdAt != null ? createdAt.toInstant() : null)
+                .updatedAt(updatedAt != null ? updatedAt.toInstant() : null)
+                .lockedByStaff(rs.getBoolean("locked_by_staff"))
+                .ownerId(rs.getLong("owner_id"))
+                .version(rs.getLong("version"))
+                .build();
+    }
+}
@@ -1,17 +1,30 @@
 package com.sme.prescreen.repository;
 
 import com.sme.prescreen.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+// findByUsername is served from the natural-id cache (see UserRepositoryCustom)
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+
+    // Forgot-ID lookup: just the two columns it returns
+    @Query("select u.username as username, u.fullName as fullName from User u where u.email = :email")
+    Optional<UserIdentity> findIdentityByEmail(@Param("email") String email);
 
-    // Existing methods
-    Optional<User> findByUsername(String username);
-    Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
     // ✅ ADD THIS "MAGIC" METHOD:
     // This will search the 'email' column OR the 'username' column for the input string
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmailOrUsername(String email, String username);
-}
\ No newline at end of file
+
+    interface UserIdentity {
+        String getUsername();
+        String getFullName();
+    }
+}
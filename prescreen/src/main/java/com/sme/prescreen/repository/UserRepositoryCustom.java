@@ -0,0 +1,11 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // Natural-id lookup: username -> id from the natural-id cache, then the entity from the second-level cache
+    Optional<User> findByUsername(String username);
+}
@@ -1,44 +1,87 @@
 package com.sme.prescreen.security;
 
-import com.sme.prescreen.domain.entity.Application;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sme.prescreen.domain.entity.User;
 import com.sme.prescreen.domain.enums.UserRole;
 import com.sme.prescreen.repository.ApplicationRepository;
 import com.sme.prescreen.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Component
 @RequiredArgsConstructor
 public class AuthFacade {
 
+    private static final String CURRENT_USER_ATTRIBUTE = AuthFacade.class.getName() + ".currentUser";
+
+    // An application's owner never changes, so this only needs eviction on delete
+    private static final long OWNER_CACHE_MAX_SIZE = 50_000;
+
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
 
+    private final Cache<Long, Long> ownerIdByApplication = Caffeine.newBuilder()
+            .maximumSize(OWNER_CACHE_MAX_SIZE)
+            .build();
+
+    // Loaded at most once per request (e.g. for the comment author's full name)
     public User getCurrentUser() {
-        String username = SecurityContextHolder.getContext()
-                .getAuthentication().getName();
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User cached) {
+            return cached;
+        }
+
+        // By id when the JWT principal carries it, else by username (natural id); both hit the second-level cache
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User user = (authentication.getPrincipal() instanceof AuthenticatedUser principal
+                ? userRepository.findById(principal.getUserId())
+                : userRepository.findByUsername(authentication.getName()))
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + authentication.getName()));
 
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("User not found: " + username));
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    // JWT requests carry id and role in the principal (no DB); other logins fall back to getCurrentUser()
+    public AuthenticatedUser getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        User user = getCurrentUser();
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole());
     }
 
     public Long getCurrentUserId() {
-        return getCurrentUser().getId();
+        return getCurrentPrincipal().getUserId();
     }
 
     public boolean isStaff() {
-        return getCurrentUser().getRole() == UserRole.STAFF;
+        return getCurrentPrincipal().getRole() == UserRole.STAFF;
     }
 
+    // Staff: no query. Applicants: owner id from cache, or a single-column lookup on a miss.
     public boolean canAccessApplication(Long appId) {
-        Application app = applicationRepository.findById(appId)
-                .orElseThrow(() -> new EntityNotFoundException("Application not found with id " + appId));
+        AuthenticatedUser principal = getCurrentPrincipal();
+        if (principal.getRole() == UserRole.STAFF) return true;
 
-        if (isStaff()) return true;
+        Long ownerId = ownerIdByApplication.get(appId, id -> applicationRepository.findOwnerIdById(id).orElse(null));
+        if (ownerId == null) {
+            throw new EntityNotFoundException("Application not found with id " + appId);
+        }
+
+        return ownerId.equals(principal.getUserId());
+    }
 
-        return app.getOwnerId().equals(getCurrentUserId());
+    public void evictApplication(Long appId) {
+        ownerIdByApplication.invalidate(appId);
     }
 }
@@ -0,0 +1,44 @@
+package com.sme.prescreen.security;
+
+import com.sme.prescreen.domain.enums.UserRole;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.List;
+
+// Principal built from verified JWT claims; getName() stays the username so existing lookups keep working
+@Getter
+public class AuthenticatedUser implements Principal, Serializable {
+
+    private final Long userId;
+    private final String username;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
+    // jti of the access token this principal came from (null for other logins and pre-jti tokens); used by logout
+    private final String tokenId;
+
+    public AuthenticatedUser(Long userId, String username, UserRole role) {
+        this(userId, username, role, null);
+    }
+
+    public AuthenticatedUser(Long userId, String username, UserRole role, String tokenId) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.tokenId = tokenId;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sme.prescreen.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Verified token -> principal. Each entry expires together with its token, and the size is bounded
+// so a flood of distinct tokens cannot grow the heap.
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, Entry> cache;
+
+    public JwtAuthenticationCache(@Value("${security.jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String token, Entry entry, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public AuthenticatedUser get(String token) {
+        Entry entry = cache.getIfPresent(token);
+        return entry == null ? null : entry.principal();
+    }
+
+    public void put(String token, AuthenticatedUser principal, long expiresAtMillis) {
+        cache.put(token, new Entry(principal, expiresAtMillis));
+    }
+
+    private record Entry(AuthenticatedUser principal, long expiresAtMillis) { }
+}
@@ -1,5 +1,10 @@
 package com.sme.prescreen.security;
 
+import com.sme.prescreen.config.AppMetrics;
+import com.sme.prescreen.config.AppMetrics.JwtOutcome;
+import com.sme.prescreen.domain.enums.UserRole;
+import com.sme.prescreen.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,20 +12,22 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService; // your CustomUserDetailsService
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenRevocationList revocations;
+    private final UserRepository userRepository;
+    private final AppMetrics metrics;
 
     @Override
     protected void doFilterInternal(
@@ -31,28 +38,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
-                // invalid token; let it fall through
-            }
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser principal = resolvePrincipal(authHeader.substring(7));
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                principal.getAuthorities()
                         );
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
@@ -63,4 +59,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    // Cache hit: no signature check, no DB. Miss: one verified parse, then cached until the token expires.
+    // The revocation check is in memory on both paths (a Bloom filter probe for tokens that were never revoked).
+    // Timed per outcome so a slow path (parse / DB fallback) shows up separately from cache hits.
+    private AuthenticatedUser resolvePrincipal(String jwt) {
+        long start = System.nanoTime();
+
+        AuthenticatedUser cached = authenticationCache.get(jwt);
+        if (cached != null) {
+            if (revocations.isRevoked(cached.getTokenId())) {
+                record(JwtOutcome.REVOKED, start);
+                return null;
+            }
+            record(JwtOutcome.CACHE_HIT, start);
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.extractAllClaims(jwt);
+        } catch (Exception e) {
+            // invalid or expired token; let it fall through unauthenticated
+            record(JwtOutcome.REJECTED, start);
+            return null;
+        }
+
+        if (JwtUtil.TYPE_REFRESH.equals(claims.get(JwtUtil.CLAIM_TYPE, String.class))) {
+            record(JwtOutcome.REJECTED, start);
+            return null;
+        }
+        if (revocations.isRevoked(claims.getId())) {
+            record(JwtOutcome.REVOKED, start);
+            return null;
+        }
+
+        boolean hasClaims = claims.get(JwtUtil.CLAIM_USER_ID) != null && claims.get(JwtUtil.CLAIM_ROLE) != null;
+        AuthenticatedUser principal = fromClaims(claims);
+        if (principal != null) {
+            authenticationCache.put(jwt, principal, claims.getExpiration().getTime());
+        }
+        record(principal == null ? JwtOutcome.REJECTED : hasClaims ? JwtOutcome.VERIFIED : JwtOutcome.USER_LOOKUP, start);
+        return principal;
+    }
+
+    private void record(JwtOutcome outcome, long startNanos) {
+        metrics.jwtTimer(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private AuthenticatedUser fromClaims(Claims claims) {
+        Number userId = claims.get(JwtUtil.CLAIM_USER_ID, Number.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        if (userId != null && role != null) {
+            return new AuthenticatedUser(userId.longValue(), claims.getSubject(), UserRole.valueOf(role), claims.getId());
+        }
+
+        // Tokens issued before userId/role claims existed: look the user up once, then it is cached
+        return userRepository.findByUsername(claims.getSubject())
+                .map(user -> new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole()))
+                .orElse(null);
+    }
 }
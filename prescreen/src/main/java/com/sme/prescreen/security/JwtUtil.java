@@ -1,27 +1,55 @@
 package com.sme.prescreen.security;
 
+import com.sme.prescreen.domain.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    // MUST be at least 32 chars for HS256
-    private static final String SECRET_KEY = "change_this_super_secret_key_123456";
+    // Extra claims so requests can be authenticated without loading the user
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    // "refresh" on refresh tokens, absent on access tokens (a refresh token is never accepted as a Bearer token)
+    public static final String CLAIM_TYPE = "typ";
+    public static final String TYPE_REFRESH = "refresh";
 
-    private static final long JWT_VALIDITY_MS = 1000 * 60 * 60; // 1 hour
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    // Built once: the key and parser are immutable and thread-safe
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${security.jwt.secret}") String secret,
+                   @Value("${security.jwt.access-ttl:15m}") Duration accessTokenTtl,
+                   @Value("${security.jwt.refresh-ttl:7d}") Duration refreshTokenTtl) {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < 32) {
+            throw new IllegalStateException("security.jwt.secret is unset or shorter than 32 bytes (HS256): set JWT_SECRET, " +
+                    "or run with the dev profile locally");
+        }
+        this.signingKey = Keys.hmacShaKeyFor(key);
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
     }
 
     public String extractUsername(String token) {
@@ -37,32 +65,44 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Verifies signature and expiry; throws JwtException if either fails
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Short-lived access token; the jti lets it be revoked before it expires (see TokenRevocationList)
+    public String generateToken(User user) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + accessTokenTtl.toMillis()))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
     }
 
-    public String generateToken(UserDetails userDetails) {
+    // Single-use refresh token (rotated by TokenService); carries no role so it can't authorize anything itself
+    public String generateRefreshToken(User user) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + JWT_VALIDITY_MS);
 
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(now.getTime() + refreshTokenTtl.toMillis()))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        // Expired tokens already fail in extractAllClaims, so one parse is enough
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername());
     }
 }
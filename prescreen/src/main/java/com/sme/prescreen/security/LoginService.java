@@ -0,0 +1,39 @@
+package com.sme.prescreen.security;
+
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+// Login in one user lookup (by user ID or email, served from the query + entity caches when warm).
+// The password check runs on the PasswordHasher pool, outside any transaction, so no DB connection
+// is held while BCrypt runs.
+@Service
+@RequiredArgsConstructor
+public class LoginService {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+
+    public User authenticate(String identifier, String password) {
+        Optional<User> found = userRepository.findByEmailOrUsername(identifier, identifier);
+
+        boolean valid = found.isPresent()
+                ? passwordHasher.matches(password, found.get().getPassword())
+                : passwordHasher.matchesNoUser(password);
+        if (!valid) {
+            throw new BadCredentialsException("Invalid User ID or password");
+        }
+
+        User user = found.get();
+        // Cost changed since this hash was made: store a fresh one while we have the plain password
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHasher.encode(password));
+            userRepository.save(user);
+        }
+        return user;
+    }
+}
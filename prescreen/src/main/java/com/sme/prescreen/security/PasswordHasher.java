@@ -0,0 +1,109 @@
+package com.sme.prescreen.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt off the request threads: a fixed pool sized below the core count plus a bounded queue,
+// so a login storm cannot starve the rest of the API. Once the queue is full callers get a
+// PasswordHashingBusyException (503) straight away instead of piling up.
+@Component
+public class PasswordHasher {
+
+    // $2a$10$... -> 10
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder encoder;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Counter rejected;
+    // Compared against when the user does not exist, so the response takes as long as a real check
+    private final String dummyHash;
+
+    public PasswordHasher(PasswordEncoder encoder,
+                          MeterRegistry registry,
+                          @Value("${prescreen.auth.bcrypt-cost:10}") int cost,
+                          @Value("${prescreen.auth.hash-threads:0}") int threads,
+                          @Value("${prescreen.auth.hash-queue:64}") int queueCapacity) {
+        this.encoder = encoder;
+        this.cost = cost;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // Platform threads: hashing is pure CPU work
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("bcrypt-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("prescreen.auth.hash")
+                .description("Password hash or check, including time queued for a hashing thread")
+                .register(registry);
+        this.rejected = Counter.builder("prescreen.auth.hash.rejected")
+                .description("Logins / registrations turned away because the hashing queue was full")
+                .register(registry);
+        Gauge.builder("prescreen.auth.hash.queued", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(registry);
+
+        this.dummyHash = encoder.encode("not-a-real-password");
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Burns the same CPU as matches() for a user that doesn't exist; always false
+    public boolean matchesNoUser(CharSequence rawPassword) {
+        run(() -> encoder.matches(rawPassword, dummyHash));
+        return false;
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    // True when the stored hash was made with a different cost than the configured one (or isn't BCrypt)
+    public boolean needsRehash(String encodedPassword) {
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return !m.find() || Integer.parseInt(m.group(1)) != cost;
+    }
+
+    private <T> T run(Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Too many logins in progress, please retry");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
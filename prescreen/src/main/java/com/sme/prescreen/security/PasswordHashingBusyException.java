@@ -0,0 +1,8 @@
+package com.sme.prescreen.security;
+
+// Password hashing queue is full (see PasswordHasher); surfaced as 503 + Retry-After
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
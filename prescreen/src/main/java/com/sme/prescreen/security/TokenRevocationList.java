@@ -0,0 +1,171 @@
+package com.sme.prescreen.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Revoked token ids (jti), checked on every authenticated request.
+// A Bloom filter answers the common "not revoked" case from a few bit reads (no lock, no allocation);
+// only a filter hit looks at the exact map. An id is kept until the token it revokes would have expired,
+// and is written through to revoked_tokens so revocations survive a restart and reach other instances on the next sync.
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private static final String INSERT_SQL =
+            "insert into revoked_tokens (token_id, expires_at) values (?, ?) on conflict (token_id) do nothing";
+    private static final String SELECT_SINCE_SQL =
+            "select token_id, expires_at, revoked_at from revoked_tokens where revoked_at > ? and expires_at > now()";
+    private static final String DELETE_EXPIRED_SQL = "delete from revoked_tokens where expires_at <= now()";
+
+    // Re-read a little before the last row seen, so rows committed late by another instance are not missed
+    private static final long SYNC_OVERLAP_MS = 60_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int expectedEntries;
+    private final Map<String, Long> expiresAtById = new ConcurrentHashMap<>();
+    // Writers (revoke, sync) take the lock; isRevoked() only reads the volatile filter and the map
+    private final ReentrantLock writeLock = new ReentrantLock();
+    volatile BloomFilter filter;
+    private long lastRevokedAtMillis;
+
+    public TokenRevocationList(JdbcTemplate jdbcTemplate,
+                               MeterRegistry registry,
+                               @Value("${security.jwt.revocation.expected:100000}") int expectedEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedEntries = expectedEntries;
+        this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+
+        Gauge.builder("prescreen.auth.revoked", expiresAtById, Map::size)
+                .description("Revoked token ids held in memory (until their tokens expire)")
+                .register(registry);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId) && expiresAtById.containsKey(tokenId);
+    }
+
+    // False when the id was already revoked (here or by another instance), so a replayed refresh token is caught
+    public boolean revoke(String tokenId, long expiresAtMillis) {
+        boolean inserted = jdbcTemplate.update(INSERT_SQL, tokenId, new Timestamp(expiresAtMillis)) == 1;
+        remember(tokenId, expiresAtMillis);
+        return inserted;
+    }
+
+    @PostConstruct
+    void load() {
+        sync();
+        log.info("Loaded {} revoked token ids", expiresAtById.size());
+    }
+
+    // Drops ids whose tokens have expired (memory and table) and picks up revocations made by other instances
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval-ms:60000}",
+            initialDelayString = "${security.jwt.revocation.sync-interval-ms:60000}")
+    public void sync() {
+        jdbcTemplate.update(DELETE_EXPIRED_SQL);
+
+        Timestamp since = new Timestamp(Math.max(0, lastRevokedAtMillis - SYNC_OVERLAP_MS));
+        jdbcTemplate.query(SELECT_SINCE_SQL, rs -> {
+            remember(rs.getString(1), rs.getTimestamp(2).getTime());
+            lastRevokedAtMillis = Math.max(lastRevokedAtMillis, rs.getTimestamp(3).getTime());
+        }, since);
+
+        long now = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            // A Bloom filter can't forget, so build a fresh one from what is left
+            if (expiresAtById.values().removeIf(expiresAt -> expiresAt <= now)) {
+                rebuild();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void remember(String tokenId, long expiresAtMillis) {
+        writeLock.lock();
+        try {
+            if (expiresAtById.putIfAbsent(tokenId, expiresAtMillis) == null) {
+                if (expiresAtById.size() > filter.capacity) {
+                    rebuild();
+                } else {
+                    filter.add(tokenId);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Caller holds writeLock. Grows past the configured size rather than letting the false-positive rate climb.
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, expiresAtById.size() * 2), FALSE_POSITIVE_RATE);
+        for (String tokenId : expiresAtById.keySet()) rebuilt.add(tokenId);
+        filter = rebuilt;
+    }
+
+    // Add-only, single writer (under writeLock); readers see set bits through the atomic array
+    static final class BloomFilter {
+
+        final int capacity;
+        private final int bits;
+        private final int hashes;
+        private final AtomicLongArray words;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = (int) Math.min(Math.max(64, optimalBits), Integer.MAX_VALUE - 64);
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+
+        void add(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                words.set(bit >>> 6, words.get(bit >>> 6) | (1L << bit));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        // 64-bit FNV-1a over the chars with a murmur3 finaliser, split into two 32-bit hashes (Kirsch-Mitzenmacher)
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb93fe53c4e1aL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sme.prescreen.security;
+
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+// Access + refresh token pairs. Refresh tokens are single use: a refresh revokes the presented token and issues
+// a new pair, so a copied refresh token stops working as soon as either holder uses it.
+@Service
+@RequiredArgsConstructor
+public class TokenService {
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationList revocations;
+    private final UserRepository userRepository;
+
+    public record IssuedTokens(User user, String accessToken, String refreshToken) { }
+
+    public IssuedTokens issue(User user) {
+        return new IssuedTokens(user, jwtUtil.generateToken(user), jwtUtil.generateRefreshToken(user));
+    }
+
+    public IssuedTokens refresh(String refreshToken) {
+        Claims claims = verifyRefreshToken(refreshToken);
+
+        // First use wins, also across instances (the insert into revoked_tokens decides)
+        if (!revocations.revoke(claims.getId(), claims.getExpiration().getTime())) {
+            throw new BadCredentialsException("Refresh token has already been used or revoked");
+        }
+
+        // Reloaded (second-level cache) so a changed role is picked up and removed users can't refresh
+        User user = userRepository.findById(claims.get(JwtUtil.CLAIM_USER_ID, Number.class).longValue())
+                .orElseThrow(() -> new BadCredentialsException("User no longer exists"));
+        return issue(user);
+    }
+
+    // Revokes the caller's access token and, if given, their refresh token. Invalid or expired tokens are ignored.
+    public void logout(AuthenticatedUser principal, String refreshToken) {
+        if (principal != null && principal.getTokenId() != null) {
+            // The exact expiry isn't on the principal; now + access lifetime always covers it
+            revocations.revoke(principal.getTokenId(), System.currentTimeMillis() + jwtUtil.getAccessTokenTtl().toMillis());
+        }
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            try {
+                Claims claims = verifyRefreshToken(refreshToken);
+                revocations.revoke(claims.getId(), claims.getExpiration().getTime());
+            } catch (BadCredentialsException e) {
+                // nothing left to revoke
+            }
+        }
+    }
+
+    private Claims verifyRefreshToken(String token) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid or expired refresh token");
+        }
+
+        if (!JwtUtil.TYPE_REFRESH.equals(claims.get(JwtUtil.CLAIM_TYPE, String.class))
+                || claims.getId() == null || claims.get(JwtUtil.CLAIM_USER_ID) == null) {
+            throw new BadCredentialsException("Not a refresh token");
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,5 @@
+package com.sme.prescreen.service;
+
+// Published when an application or one of its documents changes, so its pre-screen result gets recomputed
+public record ApplicationChangedEvent(Long applicationId) {
+}
@@ -0,0 +1,296 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.dto.ImportResultDto;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.DocumentCategory;
+import com.sme.prescreen.domain.enums.DocumentStatus;
+import com.sme.prescreen.domain.enums.DocumentType;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import com.sme.prescreen.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+// Bulk import of loan applications from the branch portfolio CSV (same layout as loan_data.csv).
+// The file is streamed record by record; every chunk gets its application ids from the table's sequence in one
+// query, is pre-screened in memory (document flags are known, so no summary query is needed) and written with
+// one JDBC batch for applications and one for documents. Bad rows are reported and skipped, never fatal.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationImportService {
+
+    static final String COL_APPLICANT_ID = "Applicant ID";
+    static final String COL_INDUSTRY = "Applicant's Industry";
+    static final String COL_AMOUNT = "Loan Amount Requested";
+    static final String COL_CATEGORY = "Applicant's Category";
+    static final String COL_INCOME = "Income Document Submitted";
+    static final String COL_KYC = "KYC Submitted";
+    static final String COL_BUSINESS = "Business Proof Submitted";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(COL_APPLICANT_ID, COL_INDUSTRY, COL_AMOUNT, COL_CATEGORY, COL_INCOME, COL_KYC, COL_BUSINESS);
+
+    // Draws from the identity column's own sequence, so JPA inserts and imports never collide
+    private static final String ALLOCATE_IDS_SQL =
+            "select nextval(pg_get_serial_sequence('applications', 'id')) from generate_series(1, ?)";
+
+    private static final String INSERT_APPLICATION_SQL =
+            "insert into applications (id, applicant_name, business_type, turnover_band, requested_loan_amount, " +
+            "years_in_business, eligibility_status, pre_screen_result, eligibility_rule_version, los_application_id, " +
+            "created_at, updated_at, locked_by_staff, owner_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?)";
+
+    private static final String INSERT_DOCUMENT_SQL =
+            "insert into application_documents (application_id, doc_type, status, file_path, uploaded_at) " +
+            "values (?, ?, ?, ?, ?)";
+
+    private static final int DEFAULT_YEARS_IN_BUSINESS = 3;
+
+    private final ApplicationService applicationService;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationStatsService stats;
+
+    @Value("${prescreen.import.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${prescreen.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private record ImportRow(long line, Application application, List<DocumentType> documents) { }
+
+    private final class Progress {
+        long rowsRead;
+        long imported;
+        long failed;
+        final List<ImportResultDto.RowError> errors = new ArrayList<>();
+        boolean errorsTruncated;
+
+        void fail(long line, String losId, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ImportResultDto.RowError.builder().line(line).losApplicationId(losId).message(message).build());
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    public ImportResultDto importCsv(InputStream in, Long ownerId) throws IOException {
+        if (!userRepository.existsById(ownerId)) {
+            throw new EntityNotFoundException("User not found: " + ownerId);
+        }
+        long start = System.currentTimeMillis();
+        Progress progress = new Progress();
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader);
+            List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+            CsvReader.Record record;
+            while ((record = reader.next()) != null) {
+                if (record.isBlank()) continue;
+                progress.rowsRead++;
+
+                ImportRow row = toRow(record, columns, ownerId, progress);
+                if (row == null) continue;
+
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    write(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            write(chunk, progress);
+        }
+
+        long durationMs = System.currentTimeMillis() - start;
+        log.info("Import finished: {} rows read, {} imported, {} failed in {} ms",
+                progress.rowsRead, progress.imported, progress.failed, durationMs);
+
+        return ImportResultDto.builder()
+                .rowsRead(progress.rowsRead)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.errorsTruncated)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    // Header name -> column index; a missing required column rejects the whole file
+    private static Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        CsvReader.Record header = reader.next();
+        if (header == null) throw new InvalidCsvException("CSV file is empty");
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.fields().size(); i++) {
+            // Excel exports start with a UTF-8 BOM
+            columns.put(header.fields().get(i).replace("\uFEFF", "").trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) throw new InvalidCsvException("CSV is missing columns: " + missing);
+        return columns;
+    }
+
+    private ImportRow toRow(CsvReader.Record record, Map<String, Integer> columns, Long ownerId, Progress progress) {
+        List<String> fields = record.fields();
+        String losId = field(fields, columns, COL_APPLICANT_ID);
+
+        if (record.error() != null) {
+            progress.fail(record.line(), losId, record.error());
+            return null;
+        }
+        if (fields.size() < columns.size()) {
+            progress.fail(record.line(), losId, "Expected " + columns.size() + " columns, found " + fields.size());
+            return null;
+        }
+        if (losId.isEmpty()) {
+            progress.fail(record.line(), null, "Applicant ID is empty");
+            return null;
+        }
+
+        String industry = field(fields, columns, COL_INDUSTRY);
+        String amount = field(fields, columns, COL_AMOUNT);
+        String category = field(fields, columns, COL_CATEGORY);
+
+        BigDecimal loanAmount;
+        try {
+            loanAmount = new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            progress.fail(record.line(), losId, "Invalid loan amount: " + amount);
+            return null;
+        }
+        if (loanAmount.signum() <= 0) {
+            progress.fail(record.line(), losId, "Loan amount must be positive: " + amount);
+            return null;
+        }
+
+        String band = switch (category) {
+            case "Large" -> "5Cr+";
+            case "Medium" -> "1Cr-5Cr";
+            case "Small" -> "0-50L";
+            default -> null;
+        };
+        if (band == null) {
+            progress.fail(record.line(), losId, "Unknown applicant category: " + category);
+            return null;
+        }
+
+        Boolean income = yesNo(field(fields, columns, COL_INCOME));
+        Boolean kyc = yesNo(field(fields, columns, COL_KYC));
+        Boolean business = yesNo(field(fields, columns, COL_BUSINESS));
+        if (income == null || kyc == null || business == null) {
+            progress.fail(record.line(), losId, "Document flags must be Yes or No");
+            return null;
+        }
+
+        Application application = Application.builder()
+                .applicantName(losId + " " + industry + " Corp")
+                .businessType(industry.equalsIgnoreCase("Trading") ? "PROPRIETORSHIP" : "PVT_LTD")
+                .turnoverBand(band)
+                .requestedLoanAmount(loanAmount)
+                .yearsInBusiness(DEFAULT_YEARS_IN_BUSINESS)
+                .losApplicationId(losId)
+                .ownerId(ownerId)
+                .eligibilityStatus(EligibilityStatus.PENDING)
+                .preScreenResult(PreScreenResult.BLOCKED_MISSING_DOCS)
+                .build();
+
+        List<DocumentType> documents = new ArrayList<>();
+        if (kyc) addMandatoryDocs(documents, DocumentCategory.KYC);
+        if (income) addMandatoryDocs(documents, DocumentCategory.INCOME_PROOF);
+        if (business) addMandatoryDocs(documents, DocumentCategory.BUSINESS_PROOF);
+
+        return new ImportRow(record.line(), application, documents);
+    }
+
+    private void write(List<ImportRow> chunk, Progress progress) {
+        if (chunk.isEmpty()) return;
+
+        // Same decision as evaluatePreScreen, computed from the document flags instead of a query
+        for (ImportRow row : chunk) {
+            applicationService.applyPreScreen(row.application(),
+                    DocumentService.summarize(DocumentService.satisfiedMask(row.documents())));
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, chunk.size());
+                List<Object[]> documents = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    ImportRow row = chunk.get(i);
+                    Long id = ids.get(i);
+                    row.application().setId(id);
+                    for (DocumentType type : row.documents()) {
+                        documents.add(new Object[]{id, type.name(), DocumentStatus.UPLOADED.name(),
+                                "dummy_" + type.name() + ".pdf", now});
+                    }
+                }
+
+                jdbcTemplate.batchUpdate(INSERT_APPLICATION_SQL, chunk, chunk.size(), (ps, row) -> {
+                    Application app = row.application();
+                    ps.setLong(1, app.getId());
+                    ps.setString(2, app.getApplicantName());
+                    ps.setString(3, app.getBusinessType());
+                    ps.setString(4, app.getTurnoverBand());
+                    ps.setBigDecimal(5, app.getRequestedLoanAmount());
+                    ps.setInt(6, app.getYearsInBusiness());
+                    ps.setString(7, app.getEligibilityStatus().name());
+                    ps.setString(8, app.getPreScreenResult().name());
+                    ps.setString(9, app.getEligibilityRuleVersion());
+                    ps.setString(10, app.getLosApplicationId());
+                    ps.setTimestamp(11, now);
+                    ps.setTimestamp(12, now);
+                    ps.setLong(13, app.getOwnerId());
+                });
+                if (!documents.isEmpty()) jdbcTemplate.batchUpdate(INSERT_DOCUMENT_SQL, documents);
+            });
+            progress.imported += chunk.size();
+            for (ImportRow row : chunk) {
+                stats.recordChange(null, ApplicationStatsService.Snapshot.of(row.application()));
+            }
+        } catch (DataAccessException e) {
+            // The chunk is rolled back as a whole; report every row in it
+            String message = "Insert failed: " + e.getMostSpecificCause().getMessage();
+            for (ImportRow row : chunk) {
+                progress.fail(row.line(), row.application().getLosApplicationId(), message);
+            }
+            log.warn("Import chunk of {} rows failed", chunk.size(), e);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        return index < fields.size() ? fields.get(index).trim() : "";
+    }
+
+    private static Boolean yesNo(String value) {
+        if (value.equalsIgnoreCase("Yes")) return true;
+        if (value.equalsIgnoreCase("No")) return false;
+        return null;
+    }
+
+    private static void addMandatoryDocs(List<DocumentType> documents, DocumentCategory category) {
+        for (DocumentType type : DocumentType.values()) {
+            if (type.getCategory() == category && type.isMandatory()) documents.add(type);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.sme.prescreen.service;
+
+// Write refused because staff locked the application for appraisal; surfaced as 409
+public class ApplicationLockedException extends RuntimeException {
+    public ApplicationLockedException(String message) {
+        super(message);
+    }
+}
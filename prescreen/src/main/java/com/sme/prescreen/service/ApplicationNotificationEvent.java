@@ -0,0 +1,40 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.dto.ApplicationNotification;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.entity.ApplicationDocument;
+
+import java.time.Instant;
+
+// Published on the application event bus; delivered to the owner's notification stream after commit
+public record ApplicationNotificationEvent(Long userId, ApplicationNotification notification) {
+
+    public static ApplicationNotificationEvent preScreenChanged(Application application) {
+        return new ApplicationNotificationEvent(application.getOwnerId(), ApplicationNotification.builder()
+                .type(ApplicationNotification.Type.PRE_SCREEN)
+                .applicationId(application.getId())
+                .preScreenResult(application.getPreScreenResult())
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    public static ApplicationNotificationEvent locked(Application application) {
+        return new ApplicationNotificationEvent(application.getOwnerId(), ApplicationNotification.builder()
+                .type(ApplicationNotification.Type.LOCKED)
+                .applicationId(application.getId())
+                .locked(application.isLockedByStaff())
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    public static ApplicationNotificationEvent documentStatusChanged(ApplicationDocument document) {
+        Application application = document.getApplication();
+        return new ApplicationNotificationEvent(application.getOwnerId(), ApplicationNotification.builder()
+                .type(ApplicationNotification.Type.DOCUMENT_STATUS)
+                .applicationId(application.getId())
+                .documentId(document.getId())
+                .documentStatus(document.getStatus())
+                .occurredAt(Instant.now())
+                .build());
+    }
+}
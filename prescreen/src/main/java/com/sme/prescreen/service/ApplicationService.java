@@ -1,17 +1,28 @@
 package com.sme.prescreen.service;
 
+import com.sme.prescreen.config.AppMetrics;
 import com.sme.prescreen.domain.dto.*;
 import com.sme.prescreen.domain.entity.Application;
 import com.sme.prescreen.domain.enums.EligibilityStatus;
 import com.sme.prescreen.domain.enums.PreScreenResult;
 import com.sme.prescreen.repository.ApplicationRepository;
+import com.sme.prescreen.repository.ApplicationRepositoryCustom;
 import com.sme.prescreen.security.AuthFacade;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +33,11 @@ public class ApplicationService {
     private final EligibilityService eligibilityService;
     private final DocumentService documentService;
     private final AuthFacade authFacade;
+    private final AppMetrics metrics;
+    private final ApplicationEventPublisher events;
+    private final ApplicationStatsService stats;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
 
     // CREATE
     public ApplicationResponseDto create(ApplicationRequestDto dto) {
@@ -40,23 +56,37 @@ public class ApplicationService {
                 .build();
 
         Application saved = applicationRepository.save(application);
+        stats.recordChange(null, ApplicationStatsService.Snapshot.of(saved));
         return toDto(saved);
     }
 
 
-    // UPDATE
+    // UPDATE (single guarded statement: refused when locked by staff or, if a version is given, when stale)
     public ApplicationResponseDto update(Long id, ApplicationRequestDto dto) {
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Application not found with id: " + id));
+        Application details = Application.builder()
+                .applicantName(dto.getApplicantName())
+                .businessType(dto.getBusinessType())
+                .turnoverBand(dto.getTurnoverBand())
+                .requestedLoanAmount(dto.getRequestedLoanAmount())
+                .yearsInBusiness(dto.getYearsInBusiness())
+                .build();
 
-        application.setApplicantName(dto.getApplicantName());
-        application.setBusinessType(dto.getBusinessType());
-        application.setTurnoverBand(dto.getTurnoverBand());
-        application.setRequestedLoanAmount(dto.getRequestedLoanAmount());
-        application.setYearsInBusiness(dto.getYearsInBusiness());
+        ApplicationRepositoryCustom.Edit edit = applicationRepository.updateDetailsIfUnlocked(id, dto.getVersion(), details)
+                .orElseThrow(() -> writeRejected(id, "Application is locked by staff. You cannot modify it."));
 
-        Application saved = applicationRepository.save(application);
-        return toDto(saved);
+        stats.recordChange(ApplicationStatsService.Snapshot.of(edit.before()), ApplicationStatsService.Snapshot.of(edit.after()));
+        // Eligibility inputs may have changed; re-screened in the background
+        events.publishEvent(new ApplicationChangedEvent(id));
+        return toDto(edit.after());
+    }
+
+    // Only reached when a guarded write matched no row: find out which guard it was
+    RuntimeException writeRejected(Long id, String lockedMessage) {
+        boolean locked = applicationRepository.findLockedById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Application not found with id: " + id));
+        return locked
+                ? new ApplicationLockedException(lockedMessage)
+                : new ObjectOptimisticLockingFailureException(Application.class, id);
     }
 
     // GET BY ID
@@ -67,52 +97,152 @@ public class ApplicationService {
         return toDto(application);
     }
 
+    // Weak ETag for GET /{id}: every write to an application bumps its version
+    @Transactional(readOnly = true)
+    public String getEtag(Long id) {
+        Long version = applicationRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Application not found with id: " + id));
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
     // GET ALL
     @Transactional(readOnly = true)
     public List<ApplicationResponseDto> getAll() {
-        if (authFacade.isStaff()) {
-            return applicationRepository.findAll().stream()
-                    .map(this::toDto)
-                    .toList();
-        } else {
-            Long ownerId = authFacade.getCurrentUserId();
-            return applicationRepository.findByOwnerId(ownerId).stream()
-                    .map(this::toDto)
-                    .toList();
-        }
+        Long ownerId = authFacade.isStaff() ? null : authFacade.getCurrentUserId();
+        return applicationRepository.findResponses(ownerSpec(ownerId), Limit.unlimited());
+    }
+
+
+    // SEARCH (keyset pagination, newest first; STAFF = all, APPLICANT = own only)
+    @Transactional(readOnly = true)
+    public ApplicationPageDto search(ApplicationSearchDto query) {
+        int size = query.getSize() == null ? DEFAULT_PAGE_SIZE : query.getSize();
+        Long ownerId = authFacade.isStaff() ? query.getOwnerId() : authFacade.getCurrentUserId();
+
+        // Fetch one extra row to know whether another page exists
+        List<ApplicationResponseDto> rows = applicationRepository.findResponses(searchSpec(query, ownerId), Limit.of(size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<ApplicationResponseDto> page = hasMore ? rows.subList(0, size) : rows;
+
+        return ApplicationPageDto.builder()
+                .items(page)
+                .nextCursor(hasMore ? cursorOf(page.get(page.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static Specification<Application> ownerSpec(Long ownerId) {
+        return (root, cq, cb) -> ownerId == null ? cb.conjunction() : cb.equal(root.get("ownerId"), ownerId);
+    }
+
+    private static Specification<Application> searchSpec(ApplicationSearchDto query, Long ownerId) {
+        // Parse before building the spec so a bad cursor surfaces as a 400, not a data-access error
+        KeysetCursor cursor = KeysetCursor.decode(query.getCursor());
+
+        return (root, cq, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (ownerId != null) predicates.add(cb.equal(root.get("ownerId"), ownerId));
+            if (query.getPreScreenResult() != null) predicates.add(cb.equal(root.get("preScreenResult"), query.getPreScreenResult()));
+            if (query.getEligibilityStatus() != null) predicates.add(cb.equal(root.get("eligibilityStatus"), query.getEligibilityStatus()));
+            if (query.getTurnoverBand() != null) predicates.add(cb.equal(root.get("turnoverBand"), query.getTurnoverBand()));
+            if (query.getBusinessType() != null) predicates.add(cb.equal(root.get("businessType"), query.getBusinessType()));
+
+            if (cursor != null) {
+                Path<Instant> createdAt = root.get("createdAt");
+                Path<Long> id = root.get("id");
+                // (createdAt, id) < cursor. The redundant <= bound lets the index range scan start at the cursor.
+                predicates.add(cb.lessThanOrEqualTo(createdAt, cursor.createdAt()));
+                predicates.add(cb.or(
+                        cb.lessThan(createdAt, cursor.createdAt()),
+                        cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
     }
 
+    private static String cursorOf(ApplicationResponseDto last) {
+        return new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+    }
 
     // DELETE
     public void delete(Long id) {
-        if (!applicationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Application not found with id: " + id);
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Application not found with id: " + id));
+        applicationRepository.delete(application);
+        stats.recordChange(ApplicationStatsService.Snapshot.of(application), null);
+        authFacade.evictApplication(id);
+    }
+
+    // LOCK (staff took the application for appraisal; the applicant can no longer edit it). Idempotent.
+    public void lock(Long id) {
+        Optional<Application> locked = applicationRepository.lockIfUnlocked(id);
+        if (locked.isPresent()) {
+            events.publishEvent(ApplicationNotificationEvent.locked(locked.get()));
+        } else if (applicationRepository.findLockedById(id).isEmpty()) {
+            throw new EntityNotFoundException("Application not found with id " + id);
         }
-        applicationRepository.deleteById(id);
     }
 
-    // 🔥 PRE-SCREEN RESULT GENERATOR
-    public PreScreenResultDto evaluatePreScreen(Long applicationId) {
+    // MATERIALIZED PRE-SCREEN (kept current by PreScreenReevaluator; no rules run, nothing written)
+    @Transactional(readOnly = true)
+    public PreScreenResultDto getPreScreen(Long applicationId) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new EntityNotFoundException("Application not found: " + applicationId));
 
+        DocSummary docs = documentService.getDocSummary(applicationId);
+
+        return PreScreenResultDto.builder()
+                .applicationId(application.getId())
+                .eligibilityStatus(application.getEligibilityStatus())
+                .preScreenResult(application.getPreScreenResult())
+                .eligibilityRuleVersion(application.getEligibilityRuleVersion())
+                .totalRequiredDocs(docs.getTotalRequiredDocs())
+                .uploadedMandatoryDocs(docs.getUploadedMandatoryDocs())
+                .missingMandatoryDocs(docs.getMissingMandatoryDocs())
+                .allMandatoryDocsUploaded(application.getPreScreenResult() == PreScreenResult.READY)
+                .build();
+    }
+
+    // 🔥 PRE-SCREEN RESULT GENERATOR
+    public PreScreenResultDto evaluatePreScreen(Long applicationId) {
+        return metrics.preScreenTimer().record(() -> {
+            Application application = applicationRepository.findById(applicationId)
+                    .orElseThrow(() -> new EntityNotFoundException("Application not found: " + applicationId));
+
+            DocSummary docs = documentService.getDocSummary(applicationId);
+            ApplicationStatsService.Snapshot before = ApplicationStatsService.Snapshot.of(application);
+
+            PreScreenResultDto result = applyPreScreen(application, docs);
+            applicationRepository.save(application);
+            stats.recordChange(before, ApplicationStatsService.Snapshot.of(application));
+            if (before.preScreenResult() != application.getPreScreenResult()) {
+                events.publishEvent(ApplicationNotificationEvent.preScreenChanged(application));
+            }
+
+            return result;
+        });
+    }
+
+    // Evaluates eligibility + doc completeness and sets both outcomes on the (possibly detached) entity.
+    // No DB access here, so the bulk re-screen can call it from many threads.
+    public PreScreenResultDto applyPreScreen(Application application, DocSummary docs) {
         // 1. Evaluate eligibility
         EligibilityResult eligibilityResult = eligibilityService.evaluate(application);
         application.setEligibilityStatus(eligibilityResult.getStatus());
+        application.setEligibilityRuleVersion(eligibilityResult.getRuleVersion());
 
-        // 2. Get document summary
-        DocSummary docs = documentService.getDocSummary(applicationId);
-
+        // 2. Apply document rules
         PreScreenResult finalResult = getPreScreenResult(docs);
-
         application.setPreScreenResult(finalResult);
-        applicationRepository.save(application);
+        metrics.recordOutcome(finalResult, eligibilityResult.getStatus());
 
         return PreScreenResultDto.builder()
                 .applicationId(application.getId())
                 .eligibilityStatus(application.getEligibilityStatus())
                 .preScreenResult(finalResult)
                 .eligibilityReasons(eligibilityResult.getReasons())
+                .eligibilityRuleVersion(eligibilityResult.getRuleVersion())
                 .totalRequiredDocs(docs.getTotalRequiredDocs())
                 .uploadedMandatoryDocs(docs.getUploadedMandatoryDocs())
                 .missingMandatoryDocs(docs.getMissingMandatoryDocs())
@@ -120,7 +250,7 @@ public class ApplicationService {
                 .build();
     }
 
-    private static PreScreenResult getPreScreenResult(DocSummary docs) {
+    static PreScreenResult getPreScreenResult(DocSummary docs) {
         PreScreenResult finalResult;
 
         // RULE 1: Missing KYC → Auto Reject
@@ -146,7 +276,7 @@ public class ApplicationService {
     }
 
     // 🔧 MAPPER: ENTITY → DTO
-    private ApplicationResponseDto toDto(Application application) {
+    ApplicationResponseDto toDto(Application application) {
         return ApplicationResponseDto.builder()
                 .id(application.getId())
                 .applicantName(application.getApplicantName())
@@ -156,7 +286,9 @@ public class ApplicationService {
                 .yearsInBusiness(application.getYearsInBusiness())
                 .eligibilityStatus(application.getEligibilityStatus())
                 .preScreenResult(application.getPreScreenResult())
+                .eligibilityRuleVersion(application.getEligibilityRuleVersion())
                 .losApplicationId(application.getLosApplicationId())
+                .version(application.getVersion())
                 .createdAt(application.getCreatedAt())
                 .updatedAt(application.getUpdatedAt())
                 .build();
@@ -0,0 +1,144 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.dto.ApplicationStatsDto;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import com.sme.prescreen.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Dashboard counters kept in memory. Create / update / delete / pre-screen apply a delta once their transaction
+// commits, so reads never touch the applications table. A periodic GROUP BY rebuild corrects any drift
+// (other instances, manual SQL, a delta racing the rebuild).
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatsService {
+
+    // The fields the counters are keyed on, captured before / after a change
+    public record Snapshot(PreScreenResult preScreenResult, EligibilityStatus eligibilityStatus,
+                           String turnoverBand, BigDecimal requestedLoanAmount) {
+
+        public static Snapshot of(Application application) {
+            return new Snapshot(application.getPreScreenResult(), application.getEligibilityStatus(),
+                    application.getTurnoverBand(), application.getRequestedLoanAmount());
+        }
+    }
+
+    private final ApplicationRepository applicationRepository;
+
+    private final AtomicReference<Counters> counters = new AtomicReference<>(new Counters());
+    private volatile Instant lastReconciledAt;
+
+    // before == null: created; after == null: deleted
+    public void recordChange(Snapshot before, Snapshot after) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+            });
+        } else {
+            apply(before, after);
+        }
+    }
+
+    private void apply(Snapshot before, Snapshot after) {
+        if (before != null && before.equals(after)) return;
+        Counters current = counters.get();
+        if (before != null) current.add(before, -1);
+        if (after != null) current.add(after, 1);
+    }
+
+    public ApplicationStatsDto getStats() {
+        return counters.get().toDto(lastReconciledAt);
+    }
+
+    // Also runs once at startup (no initial delay) to load the counters
+    @Scheduled(fixedDelayString = "${prescreen.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Counters rebuilt = new Counters();
+        for (ApplicationRepository.StatsGroup group : applicationRepository.aggregateStats()) {
+            rebuilt.add(group.getPreScreenResult(), group.getEligibilityStatus(), group.getTurnoverBand(),
+                    group.getApplications(), minorUnits(group.getRequestedLoanAmount()));
+        }
+
+        Counters previous = counters.getAndSet(rebuilt);
+        lastReconciledAt = Instant.now();
+        if (previous.total.sum() != rebuilt.total.sum()) {
+            log.info("Stats reconciled: total {} -> {}", previous.total.sum(), rebuilt.total.sum());
+        }
+    }
+
+    // Paise, so sums stay exact with plain long adders
+    private static long minorUnits(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValue();
+    }
+
+    private static final class Counters {
+        final LongAdder total = new LongAdder();
+        final Map<PreScreenResult, LongAdder> byPreScreenResult = new EnumMap<>(PreScreenResult.class);
+        final Map<EligibilityStatus, LongAdder> byEligibilityStatus = new EnumMap<>(EligibilityStatus.class);
+        final ConcurrentHashMap<String, LongAdder> byTurnoverBand = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, LongAdder> amountByTurnoverBand = new ConcurrentHashMap<>();
+
+        // Enum maps are filled up front and never modified structurally, so they are safe to share
+        Counters() {
+            for (PreScreenResult result : PreScreenResult.values()) byPreScreenResult.put(result, new LongAdder());
+            for (EligibilityStatus status : EligibilityStatus.values()) byEligibilityStatus.put(status, new LongAdder());
+        }
+
+        void add(Snapshot snapshot, int sign) {
+            add(snapshot.preScreenResult(), snapshot.eligibilityStatus(), snapshot.turnoverBand(),
+                    sign, sign * minorUnits(snapshot.requestedLoanAmount()));
+        }
+
+        void add(PreScreenResult result, EligibilityStatus status, String band, long count, long amountMinor) {
+            total.add(count);
+            if (result != null) byPreScreenResult.get(result).add(count);
+            if (status != null) byEligibilityStatus.get(status).add(count);
+            if (band != null) {
+                byTurnoverBand.computeIfAbsent(band, b -> new LongAdder()).add(count);
+                amountByTurnoverBand.computeIfAbsent(band, b -> new LongAdder()).add(amountMinor);
+            }
+        }
+
+        ApplicationStatsDto toDto(Instant reconciledAt) {
+            Map<PreScreenResult, Long> results = new EnumMap<>(PreScreenResult.class);
+            byPreScreenResult.forEach((result, count) -> results.put(result, count.sum()));
+
+            Map<EligibilityStatus, Long> statuses = new EnumMap<>(EligibilityStatus.class);
+            byEligibilityStatus.forEach((status, count) -> statuses.put(status, count.sum()));
+
+            Map<String, Long> bands = new TreeMap<>();
+            byTurnoverBand.forEach((band, count) -> bands.put(band, count.sum()));
+
+            Map<String, BigDecimal> amounts = new TreeMap<>();
+            amountByTurnoverBand.forEach((band, sum) -> amounts.put(band, BigDecimal.valueOf(sum.sum(), 2)));
+
+            return ApplicationStatsDto.builder()
+                    .totalApplications(total.sum())
+                    .byPreScreenResult(results)
+                    .byEligibilityStatus(statuses)
+                    .byTurnoverBand(bands)
+                    .requestedAmountByTurnoverBand(amounts)
+                    .lastReconciledAt(reconciledAt)
+                    .build();
+        }
+    }
+}
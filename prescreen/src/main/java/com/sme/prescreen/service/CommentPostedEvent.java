@@ -0,0 +1,6 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.dto.CommentDto;
+
+// Published when a comment is saved; pushed to the application's stream subscribers after commit
+public record CommentPostedEvent(CommentDto comment) { }
@@ -0,0 +1,129 @@
+package com.sme.prescreen.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sme.prescreen.domain.dto.CommentDto;
+import com.sme.prescreen.domain.dto.CommentPageDto;
+import com.sme.prescreen.domain.entity.ApplicationComment;
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.repository.ApplicationCommentRepository;
+import com.sme.prescreen.security.AuthFacade;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+// Application message threads: paginated history plus a live stream per application.
+// Clients open the stream first, then page back through history, de-duplicating by comment id.
+@Service
+@Slf4j
+public class CommentService {
+
+    private final ApplicationCommentRepository commentRepository;
+    private final AuthFacade authFacade;
+    private final ApplicationEventPublisher events;
+    private final ObjectMapper objectMapper;
+    private final SseRegistry<Long> subscribers;
+
+    public CommentService(ApplicationCommentRepository commentRepository,
+                          AuthFacade authFacade,
+                          ApplicationEventPublisher events,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${prescreen.sse.timeout-ms:1800000}") long timeoutMs,
+                          @Value("${prescreen.sse.comments.max-connections:5000}") int maxConnections,
+                          @Value("${prescreen.sse.max-connections-per-user:20}") int maxConnectionsPerUser) {
+        this.commentRepository = commentRepository;
+        this.authFacade = authFacade;
+        this.events = events;
+        this.objectMapper = objectMapper;
+        this.subscribers = new SseRegistry<>("comments", meterRegistry, timeoutMs, maxConnections, maxConnectionsPerUser);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentPageDto getPage(Long applicationId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<CommentDto> rows = after == null
+                ? commentRepository.findLatest(applicationId, Limit.of(size + 1))
+                : commentRepository.findPageBefore(applicationId, after.createdAt(), after.id(), Limit.of(size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<CommentDto> page = hasMore ? rows.subList(0, size) : rows;
+        CommentDto last = hasMore ? page.get(page.size() - 1) : null;
+
+        return CommentPageDto.builder()
+                .items(page)
+                .nextCursor(last == null ? null : new KeysetCursor(last.getCreatedAt(), last.getId()).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Whole thread, newest first (deprecated endpoint)
+    @Transactional(readOnly = true)
+    public List<CommentDto> getAll(Long applicationId) {
+        return commentRepository.findLatest(applicationId, Limit.unlimited());
+    }
+
+    @Transactional
+    public CommentDto addComment(Long applicationId, String message) {
+        User user = authFacade.getCurrentUser();
+
+        ApplicationComment comment = commentRepository.save(ApplicationComment.builder()
+                .applicationId(applicationId)
+                .authorName(user.getFullName())
+                .authorRole(user.getRole().name())
+                .message(message)
+                .build());
+
+        CommentDto dto = toDto(comment);
+        events.publishEvent(new CommentPostedEvent(dto));
+        return dto;
+    }
+
+    public SseEmitter subscribe(Long applicationId) {
+        return subscribers.subscribe(applicationId, authFacade.getCurrentUserId());
+    }
+
+    @PreDestroy
+    void closeStreams() {
+        subscribers.shutdown();
+    }
+
+    @TransactionalEventListener
+    public void onCommentPosted(CommentPostedEvent event) {
+        CommentDto comment = event.comment();
+        try {
+            subscribers.send(comment.getApplicationId(), "comment", objectMapper.writeValueAsString(comment));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize comment {} for streaming", comment.getId(), e);
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${prescreen.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.heartbeat();
+    }
+
+    private static CommentDto toDto(ApplicationComment comment) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .applicationId(comment.getApplicationId())
+                .authorName(comment.getAuthorName())
+                .authorRole(comment.getAuthorRole())
+                .message(comment.getMessage())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
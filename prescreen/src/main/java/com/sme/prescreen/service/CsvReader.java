@@ -0,0 +1,114 @@
+package com.sme.prescreen.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Streaming RFC 4180 reader: quoted fields may contain commas, doubled quotes ("") and line breaks.
+// One record is held in memory at a time, so file size doesn't matter. Malformed quoting doesn't stop
+// the stream; the record comes back with an error so the caller can report it and carry on.
+public class CsvReader implements Closeable {
+
+    public record Record(long line, List<String> fields, String error) {
+
+        public boolean isBlank() {
+            return fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+
+    private static final int NONE = -2;
+
+    private final Reader in;
+    private final char[] buffer = new char[64 * 1024];
+    private final StringBuilder field = new StringBuilder();
+    private int pos;
+    private int len;
+    private int pushedBack = NONE;
+    private long line = 1;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    // Next record, or null at end of input
+    public Record next() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        long startLine = line;
+        List<String> fields = new ArrayList<>();
+        String error = null;
+        boolean inQuotes = false;
+        boolean fieldWasQuoted = false;
+        field.setLength(0);
+
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return new Record(startLine, fields, "Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        // closing quote; re-examine the following char outside quotes
+                        inQuotes = false;
+                        c = n;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldWasQuoted = false;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') unread(n);
+                }
+                if (c != -1) line++;
+                fields.add(field.toString());
+                return new Record(startLine, fields, error);
+            } else if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                inQuotes = true;
+                fieldWasQuoted = true;
+            } else {
+                if (fieldWasQuoted && error == null) error = "Unexpected character after closing quote";
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        if (pos == len) {
+            len = in.read(buffer, 0, buffer.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buffer[pos++];
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
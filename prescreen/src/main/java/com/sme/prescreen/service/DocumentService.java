@@ -1,5 +1,6 @@
 package com.sme.prescreen.service;
 
+import com.sme.prescreen.config.AppMetrics;
 import com.sme.prescreen.domain.dto.ApplicationDocumentDto;
 import com.sme.prescreen.domain.dto.DocSummary;
 import com.sme.prescreen.domain.entity.Application;
@@ -10,21 +11,21 @@ import com.sme.prescreen.domain.enums.DocumentType;
 import com.sme.prescreen.repository.ApplicationDocumentRepository;
 import com.sme.prescreen.repository.ApplicationRepository;
 import jakarta.persistence.EntityNotFoundException;
+import lombok.Builder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.EnumSet;
-import java.util.List;
+import java.util.*;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -33,101 +34,185 @@ public class DocumentService {
 
     private final ApplicationRepository applicationRepository;
     private final ApplicationDocumentRepository documentRepository;
+    private final DocumentStorageService storageService;
+    private final AppMetrics metrics;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactionTemplate;
 
-    // Folder where files will be stored
-    private final Path rootLocation = Paths.get("uploads");
+    // Max IDs per IN (...) clause when summarising in bulk
+    private static final int SUMMARY_CHUNK_SIZE = 500;
 
-    // Helper to initialize folder
-    private void init() {
-        try {
-            Files.createDirectories(rootLocation);
-        } catch (IOException e) {
-            throw new RuntimeException("Could not initialize storage", e);
-        }
-    }
-
-    public ApplicationDocument uploadDocument(Long applicationId, DocumentType docType, MultipartFile file) {
-        init(); // Ensure folder exists
-
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new EntityNotFoundException("Application not found: " + applicationId));
+    // Mandatory doc types per category, one bit per DocumentType ordinal (computed once)
+    private static final int MANDATORY_MASK = maskOf(DocumentType::isMandatory);
+    private static final int KYC_MASK = mandatoryMaskOf(DocumentCategory.KYC);
+    private static final int INCOME_MASK = mandatoryMaskOf(DocumentCategory.INCOME_PROOF);
+    private static final int BUSINESS_MASK = mandatoryMaskOf(DocumentCategory.BUSINESS_PROOF);
 
-        // Create a unique filename: APPID_DOCTYPE_ORIGINALNAME
-        String filename = applicationId + "_" + docType.name() + "_" + file.getOriginalFilename();
+    // No surrounding transaction: hashing + writing a 10 MB file must not hold a DB connection.
+    // Only the lookup and the insert touch the database, each in its own short transaction.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApplicationDocumentDto uploadDocument(Long applicationId, DocumentType docType, MultipartFile file) {
+        return metrics.uploadTimer().record(() -> storeDocument(applicationId, docType, file));
+    }
 
+    // Existence and ownership were checked by the access rule; the lock is checked by the insert itself
+    private ApplicationDocumentDto storeDocument(Long applicationId, DocumentType docType, MultipartFile file) {
+        // Stored once per content hash; re-uploads of the same ITR/PAN reuse the existing blob
+        DocumentStorageService.StoredBlob blob;
         try {
-            Files.copy(file.getInputStream(), this.rootLocation.resolve(filename), StandardCopyOption.REPLACE_EXISTING);
+            blob = storageService.store(file.getInputStream());
         } catch (IOException e) {
-            throw new RuntimeException("Failed to store file " + filename, e);
+            throw new RuntimeException("Failed to store file " + file.getOriginalFilename(), e);
         }
+        metrics.recordUpload(blob.getSizeBytes(), blob.isDeduplicated());
 
         // Check if doc already exists to update it, else create new
         // (Simplification: just create new or update existing record logic here if needed)
 
         ApplicationDocument doc = ApplicationDocument.builder()
-                .application(application)
                 .docType(docType)
                 .status(DocumentStatus.UPLOADED)
-                .filePath(filename) // Store the filename we saved
+                .filePath(blob.getPath())
+                .originalFilename(file.getOriginalFilename())
+                .sizeBytes(blob.getSizeBytes())
+                .sha256(blob.getSha256())
+                .mediaType(blob.getMediaType())
                 .build();
 
-        return documentRepository.save(doc);
+        return transactionTemplate.execute(status -> {
+            ApplicationDocument saved = documentRepository.insertIfUnlocked(applicationId, doc)
+                    .orElseThrow(() -> uploadRejected(applicationId));
+            events.publishEvent(new ApplicationChangedEvent(applicationId));
+            return toDto(saved);
+        });
+    }
+
+    private RuntimeException uploadRejected(Long applicationId) {
+        if (applicationRepository.findLockedById(applicationId).isEmpty()) {
+            return new EntityNotFoundException("Application not found: " + applicationId);
+        }
+        return new ApplicationLockedException("Application is locked. Cannot upload documents.");
+    }
+
+    // File + metadata needed to serve one document (preview / download)
+    @Getter
+    @Builder
+    public static class DocumentFile {
+        private Path path;
+        private String mediaType;
+        private String filename;
+        private String etag;
     }
 
-    // NEW: Load file as Resource
-    public Resource loadFileAsResource(String filename) {
+    @Transactional(readOnly = true)
+    public DocumentFile loadDocumentFile(Long applicationId, Long documentId) {
+        return metrics.documentLoadTimer().record(() -> resolveDocumentFile(applicationId, documentId));
+    }
+
+    private DocumentFile resolveDocumentFile(Long applicationId, Long documentId) {
+        ApplicationDocumentRepository.StoredFile doc = documentRepository.findStoredFile(documentId, applicationId)
+                .orElseThrow(() -> new EntityNotFoundException("Document not found: " + documentId));
+
+        Path file = storageService.resolve(doc.getFilePath());
+        if (!Files.isReadable(file)) {
+            throw new RuntimeException("Could not read file: " + doc.getFilePath());
+        }
+
+        return DocumentFile.builder()
+                .path(file)
+                .mediaType(doc.getMediaType() != null ? doc.getMediaType() : guessMediaType(doc.getFilePath()))
+                .filename(doc.getOriginalFilename() != null ? doc.getOriginalFilename() : doc.getFilePath())
+                .etag(etagFor(doc, file))
+                .build();
+    }
+
+    // Content hash is a strong validator; legacy rows without one get a weak size+mtime tag
+    private static String etagFor(ApplicationDocumentRepository.StoredFile doc, Path file) {
+        if (doc.getSha256() != null) return "\"" + doc.getSha256() + "\"";
         try {
-            Path file = rootLocation.resolve(filename);
-            Resource resource = new UrlResource(file.toUri());
-            if (resource.exists() || resource.isReadable()) {
-                return resource;
-            } else {
-                throw new RuntimeException("Could not read file: " + filename);
-            }
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("Could not read file: " + filename, e);
+            return "W/\"" + Files.size(file) + "-" + Files.getLastModifiedTime(file).toMillis() + "\"";
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read file: " + doc.getFilePath(), e);
         }
     }
 
+    // Only for rows stored before media types were detected at upload
+    private static String guessMediaType(String filePath) {
+        String lower = filePath.toLowerCase();
+        if (lower.endsWith(".pdf")) return "application/pdf";
+        if (lower.endsWith(".jpg")) return "image/jpeg";
+        if (lower.endsWith(".png")) return "image/png";
+        return "application/octet-stream";
+    }
+
     @Transactional(readOnly = true)
     public List<ApplicationDocumentDto> getDocumentsForApplication(Long applicationId) {
         if (!applicationRepository.existsById(applicationId)) {
             throw new EntityNotFoundException("Application not found: " + applicationId);
         }
-        return documentRepository.findByApplicationId(applicationId).stream().map(this::toDto).toList();
+        return documentRepository.findDtosByApplicationId(applicationId);
     }
 
     public ApplicationDocumentDto updateDocumentStatus(Long documentId, DocumentStatus newStatus) {
         ApplicationDocument doc = documentRepository.findById(documentId)
                 .orElseThrow(() -> new EntityNotFoundException("Document not found: " + documentId));
         doc.setStatus(newStatus);
-        return toDto(documentRepository.save(doc));
+        ApplicationDocument saved = documentRepository.save(doc);
+        events.publishEvent(new ApplicationChangedEvent(doc.getApplication().getId()));
+        events.publishEvent(ApplicationNotificationEvent.documentStatusChanged(saved));
+        return toDto(saved);
+    }
+
+    // Weak ETag shared by the documents list and summary (both are derived from the same rows)
+    @Transactional(readOnly = true)
+    public String getDocumentsEtag(Long applicationId) {
+        ApplicationDocumentRepository.DocumentsVersion v = documentRepository.findDocumentsVersion(applicationId);
+        return "W/\"" + applicationId + "-" + v.getCount() + "-" + Objects.requireNonNullElse(v.getMaxId(), 0L)
+                + "-" + Objects.requireNonNullElse(v.getVersionSum(), 0L) + "\"";
     }
 
-    // ... getDocSummary() method remains exactly the same as before ...
     @Transactional(readOnly = true)
     public DocSummary getDocSummary(Long applicationId) {
-        EnumSet<DocumentType> mandatoryTypes = EnumSet.noneOf(DocumentType.class);
-        for (DocumentType type : DocumentType.values()) if (type.isMandatory()) mandatoryTypes.add(type);
-
-        int totalRequired = mandatoryTypes.size();
-        int uploadedMandatory = 0;
-        int kycRequired = 0, kycUploaded = 0;
-        int incomeRequired = 0, incomeUploaded = 0;
-        int businessRequired = 0, businessUploaded = 0;
-
-        for (DocumentType type : mandatoryTypes) {
-            boolean satisfied = isMandatoryDocSatisfied(applicationId, type);
-            if (type.getCategory() == DocumentCategory.KYC) { kycRequired++; if (satisfied) kycUploaded++; }
-            else if (type.getCategory() == DocumentCategory.INCOME_PROOF) { incomeRequired++; if (satisfied) incomeUploaded++; }
-            else if (type.getCategory() == DocumentCategory.BUSINESS_PROOF) { businessRequired++; if (satisfied) businessUploaded++; }
-            if (satisfied) uploadedMandatory++;
+        return summarize(satisfiedMask(documentRepository.findSatisfiedDocTypes(applicationId)));
+    }
+
+    // Summaries for many applications with one query per chunk of IDs.
+    // Applications without any satisfied documents still get an (empty) summary.
+    @Transactional(readOnly = true)
+    public Map<Long, DocSummary> getDocSummaries(Collection<Long> applicationIds) {
+        Map<Long, Integer> masks = new HashMap<>();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+
+        for (int from = 0; from < ids.size(); from += SUMMARY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SUMMARY_CHUNK_SIZE, ids.size()));
+            for (ApplicationDocumentRepository.SatisfiedDocType row : documentRepository.findSatisfiedDocTypes(chunk)) {
+                masks.merge(row.getApplicationId(), bit(row.getDocType()), (a, b) -> a | b);
+            }
         }
 
+        Map<Long, DocSummary> summaries = new LinkedHashMap<>();
+        for (Long id : ids) {
+            summaries.put(id, summarize(masks.getOrDefault(id, 0)));
+        }
+        return summaries;
+    }
+
+    // --- Summary engine: satisfied doc types reduced to a bitmask ---
+
+    public static int satisfiedMask(Collection<DocumentType> satisfiedTypes) {
+        int mask = 0;
+        for (DocumentType type : satisfiedTypes) mask |= bit(type);
+        return mask;
+    }
+
+    public static DocSummary summarize(int satisfiedMask) {
+        int totalRequired = Integer.bitCount(MANDATORY_MASK);
+        int uploadedMandatory = Integer.bitCount(satisfiedMask & MANDATORY_MASK);
+
         return DocSummary.builder()
-                .kycComplete((kycRequired > 0) && (kycUploaded == kycRequired))
-                .incomeComplete((incomeRequired > 0) && (incomeUploaded == incomeRequired))
-                .businessProofComplete((businessRequired > 0) && (businessUploaded == businessRequired))
+                .kycComplete(isComplete(satisfiedMask, KYC_MASK))
+                .incomeComplete(isComplete(satisfiedMask, INCOME_MASK))
+                .businessProofComplete(isComplete(satisfiedMask, BUSINESS_MASK))
                 .totalRequiredDocs(totalRequired)
                 .uploadedMandatoryDocs(uploadedMandatory)
                 .missingMandatoryDocs(totalRequired - uploadedMandatory)
@@ -135,9 +220,23 @@ public class DocumentService {
                 .build();
     }
 
-    private boolean isMandatoryDocSatisfied(Long applicationId, DocumentType type) {
-        List<ApplicationDocument> docs = documentRepository.findByApplicationId(applicationId);
-        return docs.stream().filter(d -> d.getDocType() == type).anyMatch(d -> d.getStatus() != DocumentStatus.REJECTED);
+    // A category is complete only if it has mandatory docs and all of them are satisfied
+    private static boolean isComplete(int satisfiedMask, int requiredMask) {
+        return requiredMask != 0 && (satisfiedMask & requiredMask) == requiredMask;
+    }
+
+    private static int bit(DocumentType type) {
+        return 1 << type.ordinal();
+    }
+
+    private static int mandatoryMaskOf(DocumentCategory category) {
+        return maskOf(type -> type.isMandatory() && type.getCategory() == category);
+    }
+
+    private static int maskOf(Predicate<DocumentType> filter) {
+        int mask = 0;
+        for (DocumentType type : DocumentType.values()) if (filter.test(type)) mask |= bit(type);
+        return mask;
     }
 
     private ApplicationDocumentDto toDto(ApplicationDocument doc) {
@@ -147,6 +246,10 @@ public class DocumentService {
                 .docDisplayName(doc.getDocType().getDisplayName())
                 .status(doc.getStatus())
                 .filePath(doc.getFilePath())
+                .originalFilename(doc.getOriginalFilename())
+                .mediaType(doc.getMediaType())
+                .sizeBytes(doc.getSizeBytes())
+                .sha256(doc.getSha256())
                 .uploadedAt(doc.getUploadedAt())
                 .build();
     }
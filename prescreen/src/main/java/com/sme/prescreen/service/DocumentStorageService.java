@@ -0,0 +1,139 @@
+package com.sme.prescreen.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// Content-addressed blob store: files are kept once per SHA-256 under <root>/ab/cd/<hash>.
+// Uploads stream to a temp file while hashing, then are renamed into place (or dropped if the blob already exists).
+@Service
+public class DocumentStorageService {
+
+    private static final int SNIFF_BYTES = 8;
+
+    private final Path rootLocation;
+    private final Path tempLocation;
+
+    public DocumentStorageService(@Value("${storage.location:uploads}") String location) {
+        this.rootLocation = Paths.get(location).toAbsolutePath().normalize();
+        this.tempLocation = rootLocation.resolve("tmp");
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            Files.createDirectories(tempLocation);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not initialize storage", e);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class StoredBlob {
+        private String path;        // relative to the storage root, e.g. "3f/a1/3fa1..."
+        private String sha256;
+        private long sizeBytes;
+        private String mediaType;
+        private boolean deduplicated;
+    }
+
+    public StoredBlob store(InputStream in) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempLocation, "upload-", ".part");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] head = new byte[SNIFF_BYTES];
+            int headLength = 0;
+            long size = 0;
+
+            try (in; OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (headLength < SNIFF_BYTES) {
+                        int n = Math.min(read, SNIFF_BYTES - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, n);
+                        headLength += n;
+                    }
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+            Path target = rootLocation.resolve(relative);
+
+            boolean deduplicated = Files.exists(target);
+            if (deduplicated) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content stored concurrently by another upload
+                    Files.deleteIfExists(temp);
+                    deduplicated = true;
+                }
+            }
+
+            return StoredBlob.builder()
+                    .path(relative)
+                    .sha256(hash)
+                    .sizeBytes(size)
+                    .mediaType(detectMediaType(head, headLength))
+                    .deduplicated(deduplicated)
+                    .build();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            deleteQuietly(temp);
+            throw new RuntimeException("Failed to store file", e);
+        }
+    }
+
+    // Stored paths are relative to the root; anything resolving outside it is rejected
+    public Path resolve(String path) {
+        Path file = rootLocation.resolve(path).normalize();
+        if (!file.startsWith(rootLocation)) {
+            throw new RuntimeException("Could not read file: " + path);
+        }
+        return file;
+    }
+
+    // Magic numbers for the formats we accept; the client-supplied content type is not trusted
+    static String detectMediaType(byte[] head, int length) {
+        if (startsWith(head, length, 0x25, 0x50, 0x44, 0x46)) return "application/pdf";          // %PDF
+        if (startsWith(head, length, 0x89, 0x50, 0x4E, 0x47)) return "image/png";
+        if (startsWith(head, length, 0xFF, 0xD8, 0xFF)) return "image/jpeg";
+        return "application/octet-stream";
+    }
+
+    private static boolean startsWith(byte[] head, int length, int... magic) {
+        if (length < magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if ((head[i] & 0xFF) != magic[i]) return false;
+        }
+        return true;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+}
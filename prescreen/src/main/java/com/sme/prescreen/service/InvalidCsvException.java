@@ -0,0 +1,8 @@
+package com.sme.prescreen.service;
+
+// CSV import rejected as a whole (empty file, missing columns); surfaced as 400
+public class InvalidCsvException extends RuntimeException {
+    public InvalidCsvException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sme.prescreen.service;
+
+// Page cursor that doesn't decode; surfaced as 400 with a fixed message (the client's input is never echoed)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(Throwable cause) {
+        super("Invalid cursor", cause);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sme.prescreen.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sme.prescreen.security.AuthFacade;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Per-user stream of changes to the user's applications (lock, document review, pre-screen outcome).
+// Connections are async servlet requests, so an idle subscriber holds no thread, only its socket.
+@Service
+@Slf4j
+public class NotificationService {
+
+    private final AuthFacade authFacade;
+    private final ObjectMapper objectMapper;
+    private final SseRegistry<Long> subscribers;
+
+    public NotificationService(AuthFacade authFacade,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${prescreen.sse.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${prescreen.sse.notifications.max-connections:20000}") int maxConnections,
+                               @Value("${prescreen.sse.max-connections-per-user:20}") int maxConnectionsPerUser) {
+        this.authFacade = authFacade;
+        this.objectMapper = objectMapper;
+        this.subscribers = new SseRegistry<>("notifications", meterRegistry, timeoutMs, maxConnections, maxConnectionsPerUser);
+    }
+
+    public SseEmitter subscribe() {
+        Long userId = authFacade.getCurrentUserId();
+        return subscribers.subscribe(userId, userId);
+    }
+
+    @PreDestroy
+    void closeStreams() {
+        subscribers.shutdown();
+    }
+
+    // fallbackExecution: the bulk re-screen publishes after its own JDBC transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(ApplicationNotificationEvent event) {
+        try {
+            subscribers.send(event.userId(), event.notification().getType().name(),
+                    objectMapper.writeValueAsString(event.notification()));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize notification for user {}", event.userId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${prescreen.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.heartbeat();
+    }
+}
@@ -0,0 +1,222 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.dto.BatchPreScreenEvent;
+import com.sme.prescreen.domain.dto.BatchPreScreenRequestDto;
+import com.sme.prescreen.domain.dto.DocSummary;
+import com.sme.prescreen.domain.dto.PreScreenResultDto;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.repository.ApplicationRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Re-runs the pre-screen for many applications at once (e.g. after a rule change).
+// Applications are read in keyset chunks, their documents summarised with one query per chunk,
+// evaluated in parallel and written back with a single JDBC batch per chunk.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PreScreenBatchService {
+
+    private static final String UPDATE_SQL =
+            "update applications set eligibility_status = ?, eligibility_rule_version = ?, pre_screen_result = ?, updated_at = ?, " +
+            "version = version + 1 " +
+            "where id = ? and version = ?";
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final DocumentService documentService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationStatsService stats;
+    private final ApplicationEventPublisher events;
+    private final PreScreenReevaluator reevaluator;
+
+    @Value("${prescreen.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    // Events are handed to the sink as soon as each chunk is written. A failing application (or chunk) is reported
+    // as ERROR and the run goes on; the stream always ends with DONE unless the client has gone away.
+    public void reScreen(BatchPreScreenRequestDto request, Consumer<BatchPreScreenEvent> sink) {
+        long start = System.currentTimeMillis();
+        Progress progress = new Progress();
+
+        try {
+            List<Long> ids = request.getApplicationIds();
+            if (ids != null && !ids.isEmpty()) {
+                List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+                progress.total = distinctIds.size();
+                reScreenByIds(distinctIds, progress, sink);
+            } else {
+                progress.total = applicationRepository.countMatching(request.getPreScreenResult(), request.getEligibilityStatus());
+                reScreenByFilter(request, progress, sink);
+            }
+        } catch (UncheckedIOException e) {
+            throw e;   // client disconnected: nobody left to tell
+        } catch (RuntimeException e) {
+            log.error("Bulk pre-screen aborted after {} applications", progress.processed, e);
+            sink.accept(BatchPreScreenEvent.builder()
+                    .type(BatchPreScreenEvent.Type.ERROR)
+                    .message("Bulk pre-screen aborted: " + e.getMessage())
+                    .build());
+        }
+
+        sink.accept(progress.event(BatchPreScreenEvent.Type.DONE));
+        log.info("Bulk pre-screen finished: {} applications ({} failed) in {} ms",
+                progress.processed, progress.failed, System.currentTimeMillis() - start);
+    }
+
+    private void reScreenByIds(List<Long> ids, Progress progress, Consumer<BatchPreScreenEvent> sink) {
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunkIds = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            List<Application> chunk = applicationRepository.findAllById(chunkIds);
+
+            Set<Long> found = new HashSet<>();
+            for (Application app : chunk) found.add(app.getId());
+            for (Long id : chunkIds) {
+                if (!found.contains(id)) {
+                    sink.accept(error(id, "Application not found: " + id));
+                    progress.failed++;
+                }
+            }
+
+            progress.failed += processChunk(chunk, sink);
+            progress.processed += chunkIds.size();
+            sink.accept(progress.event(BatchPreScreenEvent.Type.PROGRESS));
+        }
+    }
+
+    // Keyset walk over id, so rows whose result changes mid-run are neither skipped nor revisited
+    private void reScreenByFilter(BatchPreScreenRequestDto request, Progress progress, Consumer<BatchPreScreenEvent> sink) {
+        long afterId = 0;
+        List<Application> chunk;
+        while (!(chunk = applicationRepository.findChunkAfter(afterId, request.getPreScreenResult(),
+                request.getEligibilityStatus(), Limit.of(chunkSize))).isEmpty()) {
+            progress.failed += processChunk(chunk, sink);
+            progress.processed += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+            sink.accept(progress.event(BatchPreScreenEvent.Type.PROGRESS));
+        }
+    }
+
+    // Returns how many applications of the chunk failed; each one gets an ERROR line
+    private int processChunk(List<Application> chunk, Consumer<BatchPreScreenEvent> sink) {
+        if (chunk.isEmpty()) return 0;
+
+        List<ApplicationStatsService.Snapshot> before = chunk.stream().map(ApplicationStatsService.Snapshot::of).toList();
+        PreScreenResultDto[] results = new PreScreenResultDto[chunk.size()];
+        RuntimeException[] failures = new RuntimeException[chunk.size()];
+        List<Integer> evaluated = new ArrayList<>(chunk.size());
+        int[][] counts;
+
+        try {
+            Map<Long, DocSummary> docs = documentService.getDocSummaries(chunk.stream().map(Application::getId).toList());
+
+            // Rule evaluation is pure CPU work on detached entities, so spread it over all cores.
+            // One bad application (data, rule error) only fails itself.
+            IntStream.range(0, chunk.size()).parallel().forEach(i -> {
+                Application app = chunk.get(i);
+                try {
+                    results[i] = applicationService.applyPreScreen(app, docs.get(app.getId()));
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                }
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                if (results[i] != null) evaluated.add(i);
+            }
+
+            // Guarded by the version that was read: a row edited (or re-screened) since then is left alone
+            Timestamp now = Timestamp.from(Instant.now());
+            counts = evaluated.isEmpty() ? new int[][]{{}} : transactionTemplate.execute(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, evaluated, evaluated.size(), (ps, i) -> {
+                        Application app = chunk.get(i);
+                        ps.setString(1, app.getEligibilityStatus().name());
+                        ps.setString(2, app.getEligibilityRuleVersion());
+                        ps.setString(3, app.getPreScreenResult().name());
+                        ps.setTimestamp(4, now);
+                        ps.setLong(5, app.getId());
+                        ps.setLong(6, app.getVersion());
+                    }));
+        } catch (RuntimeException e) {
+            // Doc summaries or the batch write failed: nothing in this chunk was written
+            log.warn("Bulk pre-screen chunk of {} applications failed", chunk.size(), e);
+            for (Application app : chunk) sink.accept(error(app.getId(), "Re-screen failed: " + e.getMessage()));
+            return chunk.size();
+        }
+
+        // The JDBC update bypasses Hibernate, so drop the now-stale second-level cache entries
+        Cache cache = entityManagerFactory.getCache();
+        for (int i : evaluated) cache.evict(Application.class, chunk.get(i).getId());
+
+        int failed = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (failures[i] != null) {
+                log.warn("Bulk pre-screen failed for application {}", chunk.get(i).getId(), failures[i]);
+                sink.accept(error(chunk.get(i).getId(), "Re-screen failed: " + failures[i].getMessage()));
+                failed++;
+            }
+        }
+
+        for (int n = 0; n < evaluated.size(); n++) {
+            int i = evaluated.get(n);
+            Application app = chunk.get(i);
+            if (counts[0][n] == 0) {
+                // Changed concurrently: our result is based on stale data, so evaluate it again from the current row
+                reevaluator.enqueue(app.getId());
+                sink.accept(error(app.getId(), "Application changed during re-screen; queued for re-evaluation"));
+                failed++;
+                continue;
+            }
+
+            stats.recordChange(before.get(i), ApplicationStatsService.Snapshot.of(app));
+            if (before.get(i).preScreenResult() != app.getPreScreenResult()) {
+                events.publishEvent(ApplicationNotificationEvent.preScreenChanged(app));
+            }
+            sink.accept(BatchPreScreenEvent.builder()
+                    .type(BatchPreScreenEvent.Type.RESULT)
+                    .result(results[i])
+                    .build());
+        }
+        return failed;
+    }
+
+    private static BatchPreScreenEvent error(Long applicationId, String message) {
+        return BatchPreScreenEvent.builder()
+                .type(BatchPreScreenEvent.Type.ERROR)
+                .applicationId(applicationId)
+                .message(message)
+                .build();
+    }
+
+    // Counters for one run; only touched by the calling thread
+    private static final class Progress {
+        long processed;
+        long failed;
+        long total;
+
+        BatchPreScreenEvent event(BatchPreScreenEvent.Type type) {
+            return BatchPreScreenEvent.builder()
+                    .type(type)
+                    .processed(processed)
+                    .failed(failed)
+                    .total(total)
+                    .build();
+        }
+    }
+}
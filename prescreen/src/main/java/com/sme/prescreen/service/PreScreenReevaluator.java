@@ -0,0 +1,115 @@
+package com.sme.prescreen.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.*;
+
+// Background pre-screen: changes enqueue the application, bursts are debounced and coalesced
+// (ten uploads -> one re-evaluation), and the result is persisted off the request thread.
+@Component
+@Slf4j
+public class PreScreenReevaluator {
+
+    private final ApplicationService applicationService;
+    private final long debounceNanos;
+    private final Semaphore permits;
+
+    // applicationId -> deadline (System.nanoTime) of its pending run; every new event pushes the deadline back
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    // Applications being evaluated right now; a new run for the same one waits until this one finishes
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("prescreen-debounce").daemon().factory());
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("prescreen-reeval-", 0).factory());
+
+    public PreScreenReevaluator(ApplicationService applicationService,
+                                MeterRegistry registry,
+                                @Value("${prescreen.reevaluation.debounce-ms:2000}") long debounceMs,
+                                @Value("${prescreen.reevaluation.max-concurrency:4}") int maxConcurrency) {
+        this.applicationService = applicationService;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMs);
+        // Virtual threads are cheap, DB connections are not: cap concurrent evaluations
+        this.permits = new Semaphore(maxConcurrency);
+
+        Gauge.builder("prescreen.reevaluation.pending", pending, ConcurrentHashMap::size)
+                .description("Applications waiting for a background pre-screen")
+                .register(registry);
+    }
+
+    // After commit, so the worker sees the new document / field values
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        enqueue(event.applicationId());
+    }
+
+    public void enqueue(Long applicationId) {
+        long deadline = System.nanoTime() + debounceNanos;
+        if (pending.put(applicationId, deadline) == null) {
+            schedule(applicationId, debounceNanos);
+        }
+    }
+
+    private void schedule(Long applicationId, long delayNanos) {
+        timer.schedule(() -> fire(applicationId), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Runs on the single timer thread only
+    private void fire(Long applicationId) {
+        Long deadline = pending.get(applicationId);
+        if (deadline == null) return;
+
+        long remaining = deadline - System.nanoTime();
+        if (remaining > 0 || running.contains(applicationId)) {
+            // Still receiving events, or the previous run hasn't finished yet
+            schedule(applicationId, Math.max(remaining, debounceNanos / 4));
+            return;
+        }
+        if (!pending.remove(applicationId, deadline)) {
+            // A newer event moved the deadline between get and remove
+            schedule(applicationId, debounceNanos);
+            return;
+        }
+
+        running.add(applicationId);
+        workers.execute(() -> evaluate(applicationId));
+    }
+
+    private void evaluate(Long applicationId) {
+        try {
+            permits.acquire();
+            try {
+                applicationService.evaluatePreScreen(applicationId);
+            } finally {
+                permits.release();
+            }
+        } catch (EntityNotFoundException e) {
+            // deleted while queued; nothing to do
+        } catch (OptimisticLockingFailureException e) {
+            // edited while being evaluated; that edit queued a new run, make sure one is pending
+            enqueue(applicationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Background pre-screen failed for application {}", applicationId, e);
+        } finally {
+            running.remove(applicationId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,198 @@
+package com.sme.prescreen.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Open Server-Sent Event connections grouped by key (application id, user id, ...).
+// Connections leave on completion, timeout or a failed send; heartbeat() finds dead ones between events.
+// Every connection has its own outbound queue, drained by one virtual thread at a time: events reach each client
+// in publish order, and a client with a full socket buffer only holds up itself, never the publisher or other clients.
+// A client that falls MAX_QUEUED_EVENTS behind is dropped; it reconnects and catches up from history.
+// Capped overall and per user, so one client (or a leaked tab loop) can't take every slot.
+public class SseRegistry<K> {
+
+    static final int MAX_QUEUED_EVENTS = 256;
+
+    private final class Connection {
+
+        final K key;
+        final SseEmitter emitter;
+        final Long userId;
+        final Queue<SseEmitter.SseEventBuilder> outbound = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(K key, SseEmitter emitter, Long userId) {
+            this.key = key;
+            this.emitter = emitter;
+            this.userId = userId;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (queued.incrementAndGet() > MAX_QUEUED_EVENTS) {
+                if (remove(this)) {
+                    dropped.increment();
+                    outbound.clear();
+                    close(this);
+                }
+                return;
+            }
+            outbound.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);   // shutting down
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = outbound.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away (or the emitter already completed); the container finishes the request
+                    remove(this);
+                    outbound.clear();
+                    break;
+                }
+            }
+            draining.set(false);
+            // An event queued after the last poll but before the flag was cleared would otherwise wait for the next one
+            if (!outbound.isEmpty()) scheduleDrain();
+        }
+    }
+
+    private final ConcurrentHashMap<K, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> connectionsPerUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter dropped;
+    private final long timeoutMs;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+
+    public SseRegistry(String stream, MeterRegistry registry, long timeoutMs, int maxConnections, int maxConnectionsPerUser) {
+        this.timeoutMs = timeoutMs;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        Gauge.builder("prescreen.sse.connections", connections, AtomicInteger::get)
+                .description("Open Server-Sent Event connections")
+                .tag("stream", stream)
+                .register(registry);
+        this.dropped = Counter.builder("prescreen.sse.dropped")
+                .description("Connections closed because the client fell too far behind")
+                .tag("stream", stream)
+                .register(registry);
+    }
+
+    public SseEmitter subscribe(K key, Long userId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new StreamCapacityException("Too many open event streams");
+        }
+        if (connectionsPerUser.merge(userId, 1, Integer::sum) > maxConnectionsPerUser) {
+            release(userId);
+            connections.decrementAndGet();
+            throw new TooManyStreamsException("Too many open event streams for this user");
+        }
+
+        Connection connection = new Connection(key, createEmitter(timeoutMs), userId);
+        subscribers.compute(key, (k, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            set.add(connection);
+            return set;
+        });
+
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        emitter.onTimeout(() -> {
+            remove(connection);
+            emitter.complete();
+        });
+
+        // Commits the response headers right away, so the client sees the stream open before the first event
+        connection.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    // json is serialized once by the caller and written as-is to every connection; only queued here
+    public void send(K key, String name, String json) {
+        Set<Connection> connections = subscribers.get(key);
+        if (connections == null) return;
+        for (Connection connection : connections) {
+            connection.enqueue(SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // Tens of thousands of idle connections are swept in parallel, one writer per connection
+    public void heartbeat() {
+        subscribers.forEach((key, connections) -> {
+            for (Connection connection : connections) {
+                connection.enqueue(SseEmitter.event().comment("keepalive"));
+            }
+        });
+    }
+
+    // On context close: end every stream and stop taking writes, so clients reconnect (to another instance)
+    // instead of waiting on a socket nobody writes to
+    public void shutdown() {
+        subscribers.forEach((key, connections) -> {
+            for (Connection connection : connections) close(connection);
+        });
+        writers.shutdown();
+    }
+
+    // Seam for tests (an emitter whose client never reads)
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    // complete() waits for the emitter's monitor, which a write to a stalled client holds, so it runs on a writer too
+    private void close(Connection connection) {
+        try {
+            writers.execute(connection.emitter::complete);
+        } catch (RejectedExecutionException e) {
+            connection.emitter.complete();
+        }
+    }
+
+    // True for the call that actually took the connection out
+    private boolean remove(Connection connection) {
+        boolean[] removed = {false};
+        subscribers.computeIfPresent(connection.key, (k, set) -> {
+            if (set.remove(connection)) {
+                connections.decrementAndGet();
+                release(connection.userId);
+                removed[0] = true;
+            }
+            return set.isEmpty() ? null : set;
+        });
+        return removed[0];
+    }
+
+    private void release(Long userId) {
+        connectionsPerUser.computeIfPresent(userId, (u, open) -> open > 1 ? open - 1 : null);
+    }
+}
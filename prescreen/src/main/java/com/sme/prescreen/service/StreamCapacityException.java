@@ -0,0 +1,8 @@
+package com.sme.prescreen.service;
+
+// No room for another event-stream connection; surfaced as 503 + Retry-After
+public class StreamCapacityException extends RuntimeException {
+    public StreamCapacityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sme.prescreen.service;
+
+// One user already holds the maximum number of event-stream connections; surfaced as 429 + Retry-After
+public class TooManyStreamsException extends RuntimeException {
+    public TooManyStreamsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.enums.UserRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Human-readable user ids (APPLICANT-42, STAFF-7) from one database sequence per role.
+// Each nextval reserves BLOCK_SIZE numbers which are then issued from memory (hi/lo), so most registrations
+// cost no round trip and concurrent ones (or other instances) never get the same number.
+// Numbers left in a block when the app stops are skipped, never reused.
+@Component
+public class UserIdAllocator {
+
+    // Must equal INCREMENT BY of the <role>_user_id_seq sequences (db/migration/V4)
+    static final int BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UserRole, Block> blocks = new EnumMap<>(UserRole.class);
+
+    public UserIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (UserRole role : UserRole.values()) {
+            blocks.put(role, new Block(role.name().toLowerCase() + "_user_id_seq"));
+        }
+    }
+
+    public String nextUsername(UserRole role) {
+        return role.name() + "-" + blocks.get(role).next();
+    }
+
+    private final class Block {
+
+        private final String nextvalSql;
+        // Not synchronized: the refill queries the database and would pin a virtual thread
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long limit;
+
+        Block(String sequence) {
+            this.nextvalSql = "select nextval('" + sequence + "')";
+        }
+
+        long next() {
+            lock.lock();
+            try {
+                if (next == limit) {
+                    next = jdbcTemplate.queryForObject(nextvalSql, Long.class);
+                    limit = next + BLOCK_SIZE;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sme.prescreen.service.impl;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// JSON shape of the eligibility rules file (see resources/eligibility/rules.json).
+// Overrides refine the defaults for a turnoverBand and/or businessType; unset fields inherit.
+@Data
+public class EligibilityRuleSet {
+
+    private String version;
+    private Thresholds defaults = new Thresholds();
+    private List<RuleOverride> overrides = new ArrayList<>();
+
+    @Data
+    public static class Thresholds {
+        private Integer minYearsInBusiness;
+        private BigDecimal minLoanAmount;
+        private BigDecimal maxLoanAmount;
+        private Boolean requireApplicantName;
+
+        // Non-null fields of "other" win
+        Thresholds overlay(Thresholds other) {
+            Thresholds merged = new Thresholds();
+            merged.minYearsInBusiness = other.minYearsInBusiness != null ? other.minYearsInBusiness : minYearsInBusiness;
+            merged.minLoanAmount = other.minLoanAmount != null ? other.minLoanAmount : minLoanAmount;
+            merged.maxLoanAmount = other.maxLoanAmount != null ? other.maxLoanAmount : maxLoanAmount;
+            merged.requireApplicantName = other.requireApplicantName != null ? other.requireApplicantName : requireApplicantName;
+            return merged;
+        }
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class RuleOverride extends Thresholds {
+        private String turnoverBand;   // null = any band
+        private String businessType;   // null = any type
+    }
+}
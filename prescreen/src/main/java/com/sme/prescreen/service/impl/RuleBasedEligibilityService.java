@@ -0,0 +1,222 @@
+package com.sme.prescreen.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sme.prescreen.domain.dto.EligibilityResult;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.service.EligibilityService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Predicate;
+
+// Config-driven eligibility rules. The rules file is compiled once into flat Rule[] chains per
+// turnoverBand/businessType profile; evaluate() only walks an array and allocates nothing unless a rule fails.
+// The file is polled and swapped in atomically when it changes, and every result carries the rule version.
+@Service
+@ConditionalOnProperty(name = "eligibility.engine", havingValue = "rules", matchIfMissing = true)
+@Slf4j
+public class RuleBasedEligibilityService implements EligibilityService {
+
+    private static final String ANY = "*";
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+
+    private volatile CompiledRules rules;
+    private long loadedLastModified = -1;
+
+    public RuleBasedEligibilityService(ResourceLoader resourceLoader,
+                                       ObjectMapper objectMapper,
+                                       @Value("${eligibility.rules.location:classpath:eligibility/rules.json}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+    }
+
+    @PostConstruct
+    void init() {
+        Resource resource = resourceLoader.getResource(location);
+        this.rules = load(resource);
+        this.loadedLastModified = lastModified(resource);
+        log.info("Loaded eligibility rules version {} from {}", rules.version, location);
+    }
+
+    @Override
+    public EligibilityResult evaluate(Application application) {
+        CompiledRules current = rules;
+        Rule[] chain = current.chainFor(application.getTurnoverBand(), application.getBusinessType());
+
+        List<String> reasons = null;
+        for (Rule rule : chain) {
+            if (!rule.check.test(application)) {
+                if (reasons == null) reasons = new ArrayList<>(chain.length);
+                reasons.add(rule.reason);
+            }
+        }
+
+        return EligibilityResult.builder()
+                .status(reasons == null ? EligibilityStatus.ELIGIBLE : EligibilityStatus.INELIGIBLE)
+                .reasons(reasons == null ? List.of() : reasons)
+                .ruleVersion(current.version)
+                .build();
+    }
+
+    public String getRuleVersion() {
+        return rules.version;
+    }
+
+    // Hot reload: a bad file is logged and the previous rules stay active
+    @Scheduled(fixedDelayString = "${eligibility.rules.reload-interval-ms:30000}")
+    public synchronized void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(location);
+        long modified = lastModified(resource);
+        if (modified <= 0 || modified == loadedLastModified) return;
+
+        try {
+            CompiledRules reloaded = load(resource);
+            this.rules = reloaded;
+            this.loadedLastModified = modified;
+            log.info("Reloaded eligibility rules version {} from {}", reloaded.version, location);
+        } catch (RuntimeException e) {
+            log.error("Could not reload eligibility rules from {}, keeping version {}: {}", location, rules.version, e.getMessage());
+        }
+    }
+
+    // --- Compilation ---
+
+    private CompiledRules load(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return compile(objectMapper.readValue(in, EligibilityRuleSet.class));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read eligibility rules: " + location, e);
+        }
+    }
+
+    static CompiledRules compile(EligibilityRuleSet ruleSet) {
+        if (ruleSet.getVersion() == null || ruleSet.getVersion().isBlank()) {
+            throw new IllegalStateException("Eligibility rules must declare a version");
+        }
+        EligibilityRuleSet.Thresholds defaults = ruleSet.getDefaults();
+
+        // band -> type -> thresholds, with ANY as wildcard on either side
+        Map<String, Map<String, EligibilityRuleSet.Thresholds>> profiles = new HashMap<>();
+        for (EligibilityRuleSet.RuleOverride o : ruleSet.getOverrides()) {
+            String band = o.getTurnoverBand() == null ? ANY : o.getTurnoverBand();
+            String type = o.getBusinessType() == null ? ANY : o.getBusinessType();
+            if (band.equals(ANY) && type.equals(ANY)) {
+                throw new IllegalStateException("Override without turnoverBand or businessType: put it in defaults");
+            }
+            profiles.computeIfAbsent(band, k -> new HashMap<>()).put(type, o);
+        }
+
+        Set<String> bands = new HashSet<>(profiles.keySet());
+        Set<String> types = new HashSet<>();
+        profiles.values().forEach(byType -> types.addAll(byType.keySet()));
+        bands.add(ANY);
+        types.add(ANY);
+
+        // Most specific wins: defaults <- (band, *) <- (*, type) <- (band, type).
+        // Every band x type pair named anywhere in the file gets its merged chain, so an application matching
+        // (B, *) and (*, T) without an exact (B, T) entry still gets both; lookups never merge.
+        Map<String, Map<String, Rule[]>> chains = new HashMap<>();
+        for (String band : bands) {
+            EligibilityRuleSet.Thresholds bandOnly = band.equals(ANY) ? null : profiles.get(band).get(ANY);
+            for (String type : types) {
+                if (band.equals(ANY) && type.equals(ANY)) continue;
+                EligibilityRuleSet.Thresholds typeOnly = type.equals(ANY) ? null : profiles.getOrDefault(ANY, Map.of()).get(type);
+                EligibilityRuleSet.Thresholds exact = band.equals(ANY) || type.equals(ANY) ? null : profiles.get(band).get(type);
+                if (bandOnly == null && typeOnly == null && exact == null) continue;   // nothing beyond the defaults
+
+                EligibilityRuleSet.Thresholds merged = defaults;
+                if (bandOnly != null) merged = merged.overlay(bandOnly);
+                if (typeOnly != null) merged = merged.overlay(typeOnly);
+                if (exact != null) merged = merged.overlay(exact);
+
+                chains.computeIfAbsent(band, k -> new HashMap<>()).put(type, chainOf(merged));
+            }
+        }
+
+        return new CompiledRules(ruleSet.getVersion(), chainOf(defaults), chains);
+    }
+
+    // Same rule order (and reason codes) as the original SimpleEligibilityService
+    private static Rule[] chainOf(EligibilityRuleSet.Thresholds t) {
+        List<Rule> chain = new ArrayList<>();
+
+        if (t.getMinYearsInBusiness() != null) {
+            int minYears = t.getMinYearsInBusiness();
+            chain.add(new Rule("BUSINESS_TOO_NEW",
+                    a -> a.getYearsInBusiness() != null && a.getYearsInBusiness() >= minYears));
+        }
+        if (t.getMinLoanAmount() != null) {
+            BigDecimal min = t.getMinLoanAmount();
+            chain.add(new Rule("LOAN_AMOUNT_TOO_LOW",
+                    a -> a.getRequestedLoanAmount() != null && a.getRequestedLoanAmount().compareTo(min) >= 0));
+        }
+        if (t.getMaxLoanAmount() != null) {
+            BigDecimal max = t.getMaxLoanAmount();
+            chain.add(new Rule("LOAN_AMOUNT_TOO_HIGH",
+                    a -> a.getRequestedLoanAmount() != null && a.getRequestedLoanAmount().compareTo(max) <= 0));
+        }
+        if (!Boolean.FALSE.equals(t.getRequireApplicantName())) {
+            chain.add(new Rule("APPLICANT_NAME_MISSING",
+                    a -> a.getApplicantName() != null && !a.getApplicantName().isBlank()));
+        }
+
+        return chain.toArray(Rule[]::new);
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;   // e.g. inside a jar: not reloadable
+        }
+    }
+
+    // A rule passes when check returns true; otherwise reason is reported
+    record Rule(String reason, Predicate<Application> check) { }
+
+    static final class CompiledRules {
+        final String version;
+        final Rule[] defaults;
+        final Map<String, Map<String, Rule[]>> chains;
+
+        CompiledRules(String version, Rule[] defaults, Map<String, Map<String, Rule[]>> chains) {
+            this.version = version;
+            this.defaults = defaults;
+            this.chains = chains;
+        }
+
+        // compile() stored the merged chain for every known band x type pair, so the first hit is the answer:
+        // (band, type), else (band, *) when the type has no override, else (*, type) when the band has none, else defaults
+        Rule[] chainFor(String band, String type) {
+            if (chains.isEmpty()) return defaults;
+            Map<String, Rule[]> byType = band == null ? null : chains.get(band);
+            if (byType != null) {
+                Rule[] exact = type == null ? null : byType.get(type);
+                if (exact != null) return exact;
+                Rule[] bandOnly = byType.get(ANY);
+                if (bandOnly != null) return bandOnly;
+            }
+            Map<String, Rule[]> anyBand = chains.get(ANY);
+            if (anyBand != null && type != null) {
+                Rule[] typeOnly = anyBand.get(type);
+                if (typeOnly != null) return typeOnly;
+            }
+            return defaults;
+        }
+    }
+}
@@ -4,15 +4,22 @@ import com.sme.prescreen.domain.dto.EligibilityResult;
 import com.sme.prescreen.domain.entity.Application;
 import com.sme.prescreen.domain.enums.EligibilityStatus;
 import com.sme.prescreen.service.EligibilityService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+// Hardcoded rules, kept as a fallback: eligibility.engine=simple
 @Service
+@ConditionalOnProperty(name = "eligibility.engine", havingValue = "simple")
 public class SimpleEligibilityService implements EligibilityService {
 
+    public static final String RULE_VERSION = "simple";
+
+    private static final BigDecimal MIN_LOAN_AMOUNT = new BigDecimal("50000");
+
     @Override
     public EligibilityResult evaluate(Application application) {
         List<String> reasons = new ArrayList<>();
@@ -26,7 +33,7 @@ public class SimpleEligibilityService implements EligibilityService {
 
         // Example rule 2: minimum loan amount
         if (application.getRequestedLoanAmount() == null ||
-                application.getRequestedLoanAmount().compareTo(new BigDecimal("50000")) < 0) {
+                application.getRequestedLoanAmount().compareTo(MIN_LOAN_AMOUNT) < 0) {
             status = EligibilityStatus.INELIGIBLE;
             reasons.add("LOAN_AMOUNT_TOO_LOW");
         }
@@ -37,11 +44,10 @@ public class SimpleEligibilityService implements EligibilityService {
             reasons.add("APPLICANT_NAME_MISSING");
         }
 
-        // You can add more rules later or convert this to config-driven
-
         return EligibilityResult.builder()
                 .status(status)
                 .reasons(reasons)
+                .ruleVersion(RULE_VERSION)
                 .build();
     }
 }
@@ -0,0 +1,53 @@
+-- Schema of the last release without migrations, as its spring.jpa.hibernate.ddl-auto=update created it.
+-- Databases from that release are baselined at this version (spring.flyway.baseline-on-migrate) and skip it,
+-- so everything added since belongs in a later migration, never here.
+
+create table users (
+    id        bigint generated by default as identity primary key,
+    username  varchar(255) not null,
+    email     varchar(255) not null,
+    password  varchar(255) not null,
+    full_name varchar(255) not null,
+    role      varchar(255) check (role in ('APPLICANT', 'STAFF')),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table applications (
+    id                       bigint generated by default as identity primary key,
+    applicant_name           varchar(255)   not null,
+    business_type            varchar(255)   not null,
+    turnover_band            varchar(255)   not null,
+    requested_loan_amount    numeric(15, 2) not null,
+    years_in_business        integer        not null,
+    eligibility_status       varchar(255)   not null
+        check (eligibility_status in ('ELIGIBLE', 'INELIGIBLE', 'PENDING')),
+    pre_screen_result        varchar(255)   not null
+        check (pre_screen_result in ('READY', 'BLOCKED_MISSING_DOCS', 'BLOCKED_INELIGIBLE')),
+    los_application_id       varchar(255),
+    created_at               timestamp(6) with time zone,
+    updated_at               timestamp(6) with time zone,
+    locked_by_staff          boolean        not null,
+    owner_id                 bigint         not null
+);
+
+create table application_documents (
+    id                bigint generated by default as identity primary key,
+    application_id    bigint       not null references applications (id),
+    doc_type          varchar(255) not null
+        check (doc_type in ('BUSINESS_PAN', 'OWNER_PAN', 'OWNER_AADHAAR', 'BUSINESS_ADDRESS_PROOF', 'PNL_3Y',
+                            'BALANCE_SHEET_3Y', 'ITR_3Y', 'BANK_STATEMENT_6_12M', 'BUSINESS_REGISTRATION', 'CIN',
+                            'BOARD_OF_DIRECTORS_LIST')),
+    status            varchar(255) not null check (status in ('UPLOADED', 'VERIFIED', 'REJECTED')),
+    file_path         varchar(255) not null,
+    uploaded_at       timestamp(6) with time zone
+);
+
+create table application_comments (
+    id             bigint generated by default as identity primary key,
+    application_id bigint        not null,
+    author_name    varchar(255)  not null,
+    author_role    varchar(255)  not null,
+    message        varchar(1000) not null,
+    created_at     timestamp(6) with time zone
+);
@@ -0,0 +1,16 @@
+-- Indexes for the hot lookups. "if not exists" because baselined databases may already have some of them.
+
+-- Documents of one application: listing, duplicate-type checks, doc summaries,
+-- and the foreign-key check when an application is deleted (previously a full scan per delete)
+create index if not exists idx_documents_application_type on application_documents (application_id, doc_type);
+
+-- Bulk re-screen walks the still-open subsets in id order (findChunkAfter with a status filter).
+-- Partial indexes cover just those rows, so they stay small and are skipped by writes to settled rows.
+create index if not exists idx_applications_eligibility_pending_id on applications (id)
+    where eligibility_status = 'PENDING';
+create index if not exists idx_applications_missing_docs_id on applications (id)
+    where pre_screen_result = 'BLOCKED_MISSING_DOCS';
+
+-- Written by ddl-auto before migrations existed
+create index if not exists idx_applications_owner_created_id on applications (owner_id, created_at, id);
+create index if not exists idx_comments_application_created_id on application_comments (application_id, created_at, id);
@@ -0,0 +1,2 @@
+-- Optimistic concurrency for applications: bumped by every write (JPA @Version, guarded JDBC updates, bulk re-screen)
+alter table applications add column version bigint not null default 0;
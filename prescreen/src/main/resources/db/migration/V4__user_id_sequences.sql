@@ -0,0 +1,13 @@
+-- Registration ids (APPLICANT-<n>, STAFF-<n>): one sequence per role, named <role>_user_id_seq.
+-- Each nextval reserves a block of 50 numbers that UserIdAllocator hands out from memory.
+create sequence applicant_user_id_seq increment by 50;
+create sequence staff_user_id_seq increment by 50;
+
+-- Continue after every number already issued (the old scheme numbered all roles from count() + 1).
+-- STAFF-1 is the seeded demo account, so numbering never starts below 2.
+select setval('applicant_user_id_seq',
+              (select greatest(2, coalesce(max(substring(username from '-([0-9]+)$')::bigint), 0) + 1) from users),
+              false);
+select setval('staff_user_id_seq',
+              (select greatest(2, coalesce(max(substring(username from '-([0-9]+)$')::bigint), 0) + 1) from users),
+              false);
@@ -0,0 +1,11 @@
+-- Revoked JWT ids (jti), loaded into TokenRevocationList at startup and synced periodically.
+-- A row is only needed until the token it revokes would have expired anyway; expired rows are purged.
+create table revoked_tokens
+(
+    token_id   varchar(64) primary key,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null default now()
+);
+
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
@@ -0,0 +1,3 @@
+-- Optimistic lock for documents; bumped on every status change. Together with the row count and max id it gives
+-- the documents list / summary an ETag from one small aggregate query (see DocumentService.getDocumentsEtag).
+alter table application_documents add column version bigint not null default 0;
@@ -0,0 +1,17 @@
+-- Columns and indexes added while the schema was still created by ddl-auto=update, and therefore missing from
+-- databases baselined at V1. "if not exists" because databases run with those builds already have some of them.
+
+-- Rule set version that produced the current eligibility status
+alter table applications add column if not exists eligibility_rule_version varchar(255);
+
+-- Upload metadata: name as sent by the client, stored size, content hash (blob path / strong ETag), detected type
+alter table application_documents add column if not exists original_filename varchar(255);
+alter table application_documents add column if not exists size_bytes bigint;
+alter table application_documents add column if not exists sha256 varchar(64);
+alter table application_documents add column if not exists media_type varchar(255);
+
+-- Keyset pagination for the dashboard listing: (created_at, id) plus the selective filters.
+-- The owner variant and the comment thread index are created in V2.
+create index if not exists idx_applications_created_id on applications (created_at, id);
+create index if not exists idx_applications_prescreen_created_id on applications (pre_screen_result, created_at, id);
+create index if not exists idx_applications_eligibility_created_id on applications (eligibility_status, created_at, id);
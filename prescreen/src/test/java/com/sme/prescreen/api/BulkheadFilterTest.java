@@ -0,0 +1,109 @@
+package com.sme.prescreen.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Route classification, a slot held until a sync request or async stream ends and given back exactly once,
+// and 503 + Retry-After when the budget is used up
+class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // files / prescreen / default budgets of 1, no waiting
+    private final BulkheadFilter filter = new BulkheadFilter(new ObjectMapper().findAndRegisterModules(), meterRegistry, 1, 1, 1, 0);
+
+    @Test
+    void classifiesRoutes() {
+        assertEquals(BulkheadFilter.Bulkhead.FILES, BulkheadFilter.classify("POST", "/api/applications/7/documents"));
+        assertEquals(BulkheadFilter.Bulkhead.FILES, BulkheadFilter.classify("GET", "/api/applications/7/documents/3/preview"));
+        assertEquals(BulkheadFilter.Bulkhead.DEFAULT, BulkheadFilter.classify("GET", "/api/applications/7/documents"));
+        assertEquals(BulkheadFilter.Bulkhead.PRESCREEN, BulkheadFilter.classify("POST", "/api/applications/7/pre-screen"));
+        assertEquals(BulkheadFilter.Bulkhead.PRESCREEN, BulkheadFilter.classify("POST", "/api/applications/pre-screen/batch"));
+        assertEquals(BulkheadFilter.Bulkhead.DEFAULT, BulkheadFilter.classify("GET", "/api/applications"));
+    }
+
+    @Test
+    void syncRequestReleasesItsSlotWhenDone() throws ServletException, IOException {
+        assertEquals(200, call("/api/applications", new MockFilterChain()).getStatus());
+        assertEquals(200, call("/api/applications", new MockFilterChain()).getStatus());
+
+        assertEquals(1, available("default"));
+    }
+
+    @Test
+    void asyncRequestHoldsItsSlotUntilTheStreamEndsAndReleasesItOnce() throws ServletException, IOException {
+        MockHttpServletRequest request = request("/api/applications/pre-screen/batch");
+        filter.doFilter(request, new MockHttpServletResponse(), startsAsync());
+        assertEquals(0, available("prescreen"));
+
+        MockAsyncContext async = (MockAsyncContext) request.getAsyncContext();
+        async.complete();
+        assertEquals(1, available("prescreen"));
+
+        // Late or repeated container callbacks must not hand out a second slot
+        AsyncEvent event = new AsyncEvent(async);
+        for (AsyncListener listener : async.getListeners()) {
+            listener.onComplete(event);
+            listener.onTimeout(event);
+            listener.onError(event);
+        }
+        assertEquals(1, available("prescreen"));
+    }
+
+    @Test
+    void asyncTimeoutReleasesTheSlot() throws ServletException, IOException {
+        MockHttpServletRequest request = request("/api/applications/pre-screen/batch");
+        filter.doFilter(request, new MockHttpServletResponse(), startsAsync());
+
+        MockAsyncContext async = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : async.getListeners()) listener.onTimeout(new AsyncEvent(async));
+
+        assertEquals(1, available("prescreen"));
+    }
+
+    @Test
+    void fullBudgetReturns503() throws ServletException, IOException {
+        filter.doFilter(request("/api/applications/pre-screen/batch"), new MockHttpServletResponse(), startsAsync());
+
+        MockHttpServletResponse rejected = call("/api/applications/7/pre-screen", new MockFilterChain());
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("prescreen.bulkhead.rejected").tag("bulkhead", "prescreen").counter().count());
+        // Other budgets are untouched
+        assertEquals(200, call("/api/applications", new MockFilterChain()).getStatus());
+    }
+
+    private static FilterChain startsAsync() {
+        return (request, response) -> request.startAsync();
+    }
+
+    private MockHttpServletResponse call(String uri, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private double available(String bulkhead) {
+        return meterRegistry.get("prescreen.bulkhead.available").tag("bulkhead", bulkhead).gauge().value();
+    }
+}
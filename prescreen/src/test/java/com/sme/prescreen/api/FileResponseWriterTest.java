@@ -0,0 +1,95 @@
+package com.sme.prescreen.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Range / If-Range handling: strong validators only, and hostile range numbers never escape as a 500
+class FileResponseWriterTest {
+
+    private static final String BODY = "0123456789";
+    private static final String STRONG = "\"abc\"";
+    private static final String WEAK = "W/\"abc\"";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void servesRangeWhenIfRangeMatchesStrongEtag() throws IOException {
+        MockHttpServletResponse response = get("bytes=2-4", STRONG, STRONG);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-4/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("234", response.getContentAsString());
+    }
+
+    @Test
+    void ignoresRangeWhenEtagIsWeak() throws IOException {
+        MockHttpServletResponse response = get("bytes=2-4", WEAK, WEAK);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeIsWeak() throws IOException {
+        MockHttpServletResponse response = get("bytes=2-4", WEAK, STRONG);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void overflowingLastBytePositionIsClamped() throws IOException {
+        MockHttpServletResponse response = get("bytes=8-99999999999999999999", null, STRONG);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 8-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void overflowingSuffixSendsWholeFile() throws IOException {
+        MockHttpServletResponse response = get("bytes=-99999999999999999999", null, STRONG);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 0-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void overflowingFirstBytePositionIsUnsatisfiable() throws IOException {
+        MockHttpServletResponse response = get("bytes=99999999999999999999-", null, STRONG);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void malformedRangeSendsWholeFile() throws IOException {
+        MockHttpServletResponse response = get("bytes=1-2,4-5", null, STRONG);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    private MockHttpServletResponse get(String range, String ifRange, String etag) throws IOException {
+        Path file = Files.writeString(dir.resolve("doc.txt"), BODY, StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/doc");
+        request.addHeader(HttpHeaders.RANGE, range);
+        if (ifRange != null) request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileResponseWriter.write(request, response, file, "text/plain", "doc.txt", etag);
+        return response;
+    }
+}
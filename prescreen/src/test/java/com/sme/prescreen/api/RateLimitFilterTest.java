@@ -0,0 +1,130 @@
+package com.sme.prescreen.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// GCRA bucket (burst = capacity, steady refill, wait until the next admit), Retry-After rounding, and the client
+// key: per user on ordinary routes, per address on /api/auth/** even when a token came along
+class RateLimitFilterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // Any instant after ORIGIN; a new bucket is full whatever the time
+    private static final long T = 100 * SECOND;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void burstEqualsCapacity() {
+        RateLimitFilter.Limit limit = limit(5, 1);
+
+        for (int i = 0; i < 5; i++) assertEquals(0, limit.tryAcquire("client", T));
+        assertEquals(SECOND, limit.tryAcquire("client", T));
+    }
+
+    @Test
+    void refillsOneRequestPerInterval() {
+        RateLimitFilter.Limit limit = limit(5, 2);   // one every 500 ms
+        for (int i = 0; i < 5; i++) limit.tryAcquire("client", T);
+
+        assertEquals(SECOND / 2, limit.tryAcquire("client", T));
+        assertEquals(SECOND / 4, limit.tryAcquire("client", T + SECOND / 4));
+        // Steady pace at the refill rate is never refused
+        for (int i = 1; i <= 20; i++) assertEquals(0, limit.tryAcquire("client", T + i * SECOND / 2));
+        assertEquals(SECOND / 2, limit.tryAcquire("client", T + 10 * SECOND));
+    }
+
+    @Test
+    void idleBucketRefillsOnlyToCapacity() {
+        RateLimitFilter.Limit limit = limit(3, 1);
+        for (int i = 0; i < 3; i++) limit.tryAcquire("client", T);
+
+        long later = T + 3600 * SECOND;
+        for (int i = 0; i < 3; i++) assertEquals(0, limit.tryAcquire("client", later));
+        assertEquals(SECOND, limit.tryAcquire("client", later));
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        RateLimitFilter.Limit limit = limit(1, 1);
+
+        assertEquals(0, limit.tryAcquire("a", T));
+        assertEquals(SECOND, limit.tryAcquire("a", T));
+        assertEquals(0, limit.tryAcquire("b", T));
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() throws ServletException, IOException {
+        RateLimitFilter filter = filter(1, 0.4);   // next admit 2.5 s out
+
+        assertEquals(200, post(filter, "/api/auth/login", "10.0.0.1").getStatus());
+        MockHttpServletResponse rejected = post(filter, "/api/auth/login", "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("3", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void authRoutesAreKeyedByAddressEvenWhenAuthenticated() throws ServletException, IOException {
+        RateLimitFilter filter = filter(1, 0.001);
+        authenticateAs("STAFF-1");
+
+        assertEquals(200, post(filter, "/api/auth/refresh", "10.0.0.1").getStatus());
+        assertEquals(429, post(filter, "/api/auth/refresh", "10.0.0.1").getStatus());
+        // Same user, another address: its own bucket
+        assertEquals(200, post(filter, "/api/auth/refresh", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void otherRoutesAreKeyedByUser() throws ServletException, IOException {
+        RateLimitFilter filter = filter(1, 0.001);
+        authenticateAs("STAFF-1");
+
+        assertEquals(200, post(filter, "/api/applications", "10.0.0.1").getStatus());
+        // Same user from another address shares the bucket
+        assertEquals(429, post(filter, "/api/applications", "10.0.0.2").getStatus());
+
+        authenticateAs("STAFF-2");
+        assertEquals(200, post(filter, "/api/applications", "10.0.0.1").getStatus());
+    }
+
+    private static RateLimitFilter.Limit limit(int capacity, double refillPerSecond) {
+        return new RateLimitFilter.Limit(capacity, refillPerSecond, 1000, new SimpleMeterRegistry(), "test");
+    }
+
+    private static RateLimitFilter filter(int capacity, double refillPerSecond) {
+        return new RateLimitFilter(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), true, 1000,
+                capacity, refillPerSecond, capacity, refillPerSecond, capacity, refillPerSecond);
+    }
+
+    private static void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static MockHttpServletResponse post(RateLimitFilter filter, String uri, String remoteAddress)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sme.prescreen.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// A slot is taken by getConnection() and given back exactly once on close, including when the pool or close fails
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+    private final ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(pool, 2, 0);
+
+    @Test
+    void fullBudgetFailsFast() throws SQLException {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.getInUse());
+    }
+
+    @Test
+    void closeReleasesTheSlotOnce() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.getInUse());
+
+        connection.close();
+        connection.close();
+        verify(pooled, times(2)).close();
+        assertEquals(0, dataSource.getInUse());
+
+        // A double release would have made room for a third connection
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void failedCloseStillReleasesTheSlot() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        doThrow(new SQLException("broken")).when(pooled).close();
+        when(pool.getConnection()).thenReturn(pooled);
+
+        Connection connection = dataSource.getConnection();
+
+        assertThrows(SQLException.class, connection::close);
+        assertEquals(0, dataSource.getInUse());
+    }
+
+    @Test
+    void poolFailureReleasesTheSlot() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getInUse());
+    }
+}
@@ -0,0 +1,278 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.enums.DocumentType;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import com.sme.prescreen.domain.enums.PreScreenResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Runs the hot repository queries against Postgres with production-like row counts, EXPLAINs every SELECT they
+// issue (same SQL, same bind values) and fails on a sequential scan. The schema comes from the Flyway migrations,
+// so a missing or unusable index shows up here. Full-table reads by design (stats rebuild, unfiltered counts) are not covered.
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryQueryPlanTest {
+
+    private static final int USERS = 20_000;
+    private static final int APPLICATIONS = 200_000;
+    private static final int COMMENTED_APPLICATIONS = 20_000;
+    private static final int COMMENTS_PER_THREAD = 10;
+
+    private static final List<String> plans = new CopyOnWriteArrayList<>();
+    private static volatile boolean explaining;
+    private static TestDatabase database;
+    private static boolean seeded;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private ApplicationDocumentRepository documentRepository;
+    @Autowired
+    private ApplicationCommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startPostgres() throws IOException, SQLException {
+        database = TestDatabase.start("plan_test");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (database != null) database.close();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        database.register(registry);
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) return;
+        jdbcTemplate.update("insert into users (username, email, password, full_name, role) " +
+                "select 'APPLICANT-' || i, 'user' || i || '@example.com', 'x', 'User ' || i, " +
+                "case when i % 100 = 0 then 'STAFF' else 'APPLICANT' end " +
+                "from generate_series(1, ?) i", USERS);
+
+        // ~45% missing docs, ~15% ineligible, 5% still pending eligibility; created over the last two years
+        jdbcTemplate.update("insert into applications (applicant_name, business_type, turnover_band, requested_loan_amount, " +
+                "years_in_business, eligibility_status, pre_screen_result, eligibility_rule_version, los_application_id, " +
+                "created_at, updated_at, locked_by_staff, owner_id) " +
+                "select 'Business ' || i, 'PROPRIETORSHIP', (array['0-50L','50L-1Cr','1Cr-5Cr','5Cr+'])[1 + i % 4], " +
+                "100000 + (i % 5000) * 1000, 1 + i % 20, " +
+                "case when i % 20 = 0 then 'PENDING' when i % 7 = 0 then 'INELIGIBLE' else 'ELIGIBLE' end, " +
+                "case when i % 7 = 0 then 'BLOCKED_INELIGIBLE' when i % 20 < 9 then 'BLOCKED_MISSING_DOCS' else 'READY' end, " +
+                "'2024.1', 'LOS-' || i, now() - (i % 730) * interval '1 day' - (i % 86400) * interval '1 second', now(), " +
+                "false, 1 + (i * 7919) % ?::int " +
+                "from generate_series(1, ?) i", USERS, APPLICATIONS);
+
+        jdbcTemplate.update("insert into application_documents (application_id, doc_type, status, file_path, uploaded_at) " +
+                "select a.id, t.doc_type, case when a.id % 10 = 0 then 'REJECTED' else 'UPLOADED' end, 'dummy.pdf', now() " +
+                "from applications a cross join (values ('BUSINESS_PAN'), ('OWNER_PAN'), ('ITR_3Y')) t(doc_type)");
+
+        jdbcTemplate.update("insert into application_comments (application_id, author_name, author_role, message, created_at) " +
+                "select a.id, 'Staff', 'STAFF', 'Message ' || n, now() - n * interval '1 hour' " +
+                "from (select id from applications order by id limit ?) a cross join generate_series(1, ?) n",
+                COMMENTED_APPLICATIONS, COMMENTS_PER_THREAD);
+
+        jdbcTemplate.execute("vacuum analyze");
+        seeded = true;
+    }
+
+    @Test
+    void applicationLookups() {
+        Long ownerId = 42L;
+        assertNoSeqScan("all of one owner", () -> applicationRepository.findResponses(
+                (root, query, cb) -> cb.equal(root.get("ownerId"), ownerId), Limit.unlimited()));
+        assertNoSeqScan("findOwnerIdById", () -> applicationRepository.findOwnerIdById(12_345L));
+        assertNoSeqScan("findVersionById", () -> applicationRepository.findVersionById(12_345L));
+        assertNoSeqScan("countMatching(pre-screen)",
+                () -> applicationRepository.countMatching(PreScreenResult.BLOCKED_INELIGIBLE, null));
+    }
+
+    @Test
+    void bulkReScreenChunks() {
+        Limit chunk = Limit.of(1000);
+        assertNoSeqScan("findChunkAfter(all)", () -> applicationRepository.findChunkAfter(0L, null, null, chunk));
+        assertNoSeqScan("findChunkAfter(missing docs)",
+                () -> applicationRepository.findChunkAfter(0L, PreScreenResult.BLOCKED_MISSING_DOCS, null, chunk));
+        assertNoSeqScan("findChunkAfter(pending)",
+                () -> applicationRepository.findChunkAfter(100_000L, null, EligibilityStatus.PENDING, chunk));
+    }
+
+    @Test
+    void dashboardPages() {
+        Instant cursor = Instant.now().minusSeconds(30L * 24 * 3600);
+
+        assertNoSeqScan("first page", () -> applicationRepository.findResponses(
+                (root, query, cb) -> cb.conjunction(), Limit.of(21)));
+        assertNoSeqScan("owner page", () -> applicationRepository.findResponses(
+                (root, query, cb) -> cb.equal(root.get("ownerId"), 42L), Limit.of(21)));
+        assertNoSeqScan("filtered page after cursor", () -> applicationRepository.findResponses(
+                (root, query, cb) -> cb.and(
+                        cb.equal(root.get("preScreenResult"), PreScreenResult.BLOCKED_MISSING_DOCS),
+                        cb.lessThanOrEqualTo(root.get("createdAt"), cursor)),
+                Limit.of(21)));
+    }
+
+    @Test
+    void documentLookups() {
+        List<Long> chunk = LongStream.rangeClosed(50_001, 51_000).boxed().toList();
+        assertNoSeqScan("findDtosByApplicationId", () -> documentRepository.findDtosByApplicationId(777L));
+        assertNoSeqScan("findStoredFile", () -> documentRepository.findStoredFile(2_000L, 667L));
+        assertNoSeqScan("findDocumentsVersion", () -> documentRepository.findDocumentsVersion(777L));
+        assertNoSeqScan("existsByApplicationIdAndDocType",
+                () -> documentRepository.existsByApplicationIdAndDocType(777L, DocumentType.ITR_3Y));
+        assertNoSeqScan("findSatisfiedDocTypes(one)", () -> documentRepository.findSatisfiedDocTypes(777L));
+        assertNoSeqScan("findSatisfiedDocTypes(chunk)", () -> documentRepository.findSatisfiedDocTypes(chunk));
+    }
+
+    @Test
+    void commentPages() {
+        Instant cursor = Instant.now().minusSeconds(3 * 3600);
+        assertNoSeqScan("first comment page", () -> commentRepository.findLatest(10L, Limit.of(21)));
+        assertNoSeqScan("older comments",
+                () -> commentRepository.findPageBefore(10L, cursor, Long.MAX_VALUE, Limit.of(21)));
+    }
+
+    @Test
+    void userLookups() {
+        assertNoSeqScan("findByUsername", () -> userRepository.findByUsername("APPLICANT-4242"));
+        assertNoSeqScan("findIdentityByEmail", () -> userRepository.findIdentityByEmail("user4242@example.com"));
+        assertNoSeqScan("existsByEmail", () -> userRepository.existsByEmail("user4242@example.com"));
+        assertNoSeqScan("findByEmailOrUsername",
+                () -> userRepository.findByEmailOrUsername("APPLICANT-4242", "APPLICANT-4242"));
+    }
+
+    private void assertNoSeqScan(String name, Runnable query) {
+        plans.clear();
+        explaining = true;
+        try {
+            query.run();
+        } finally {
+            explaining = false;
+        }
+
+        assertFalse(plans.isEmpty(), name + ": no SELECT was executed");
+        for (String plan : plans) {
+            if (plan.contains("Seq Scan")) fail(name + " falls back to a sequential scan:\n" + plan);
+        }
+    }
+
+    @TestConfiguration
+    static class ExplainConfig {
+
+        @Bean
+        static BeanPostProcessor explainingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                            ? new ExplainingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    // While explaining is on, every SELECT run through a PreparedStatement is first EXPLAINed on the same
+    // connection with the same bind calls replayed, so the plan is the one Postgres picks for these values
+    static final class ExplainingDataSource extends DelegatingDataSource {
+
+        ExplainingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        private static Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return wrap(connection, statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement wrap(Connection connection, PreparedStatement statement, String sql) {
+            List<Object[]> binds = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            binds.add(new Object[]{method, args});
+                        } else if (name.equals("clearParameters")) {
+                            binds.clear();
+                        } else if (explaining && (name.equals("executeQuery") || name.equals("execute"))
+                                && sql.stripLeading().toLowerCase().startsWith("select")) {
+                            plans.add(explain(connection, sql, binds));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static String explain(Connection connection, String sql, List<Object[]> binds) throws Throwable {
+            try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+                for (Object[] bind : binds) invoke(explain, (Method) bind[0], (Object[]) bind[1]);
+                StringBuilder plan = new StringBuilder(sql).append('\n');
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
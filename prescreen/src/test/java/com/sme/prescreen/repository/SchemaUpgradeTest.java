@@ -0,0 +1,103 @@
+package com.sme.prescreen.repository;
+
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.entity.ApplicationDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// A database from the last release without migrations (ddl-auto=update, no flyway_schema_history) is adopted at V1,
+// brought up to date by the later migrations and must then pass Hibernate's schema validation (the context only
+// starts if it does). The old schema is a frozen fixture, so a column slipped into V1 instead of a new migration fails here.
+@DataJpaTest(showSql = false, properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaUpgradeTest {
+
+    private static TestDatabase database;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private ApplicationDocumentRepository documentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createPreMigrationDatabase() throws IOException, SQLException {
+        database = TestDatabase.start("upgrade_test");
+        database.execute(new ClassPathResource("db/pre-migration-schema.sql").getContentAsString(StandardCharsets.UTF_8));
+        database.execute("""
+                insert into users (username, email, password, full_name, role)
+                values ('STAFF-1', 'staff@example.com', 'x', 'Staff', 'STAFF'),
+                       ('APPLICANT-2', 'owner@example.com', 'x', 'Owner', 'APPLICANT');
+                insert into applications (applicant_name, business_type, turnover_band, requested_loan_amount,
+                                          years_in_business, eligibility_status, pre_screen_result, created_at, updated_at,
+                                          locked_by_staff, owner_id)
+                values ('Old Business', 'PROPRIETORSHIP', '0-50L', 250000, 4, 'ELIGIBLE', 'BLOCKED_MISSING_DOCS',
+                        now(), now(), false, 2);
+                insert into application_documents (application_id, doc_type, status, file_path, uploaded_at)
+                select id, 'BUSINESS_PAN', 'UPLOADED', 'legacy.pdf', now() from applications;
+                insert into application_comments (application_id, author_name, author_role, message, created_at)
+                select id, 'Staff', 'STAFF', 'Hello', now() from applications;
+                """);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (database != null) database.close();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        database.register(registry);
+    }
+
+    @Test
+    void adoptsOldDatabaseAtV1AndAppliesEveryLaterMigration() {
+        assertEquals("1", jdbcTemplate.queryForObject(
+                "select version from flyway_schema_history where type = 'BASELINE'", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from flyway_schema_history where not success", Integer.class));
+    }
+
+    @Test
+    void createsIndexesAddedSinceTheOldRelease() {
+        List<String> expected = List.of(
+                "idx_applications_created_id",
+                "idx_applications_owner_created_id",
+                "idx_applications_prescreen_created_id",
+                "idx_applications_eligibility_created_id",
+                "idx_comments_application_created_id",
+                "idx_documents_application_type");
+
+        List<String> present = jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where schemaname = current_schema()", String.class);
+        assertEquals(List.of(), expected.stream().filter(index -> !present.contains(index)).toList());
+    }
+
+    @Test
+    void oldRowsReadThroughTheCurrentMapping() {
+        Application application = applicationRepository.findAll().get(0);
+        assertEquals(0L, application.getVersion());
+        assertNull(application.getEligibilityRuleVersion());
+
+        ApplicationDocument document = documentRepository.findAll().get(0);
+        assertEquals("legacy.pdf", document.getFilePath());
+        assertNull(document.getSha256());
+    }
+}
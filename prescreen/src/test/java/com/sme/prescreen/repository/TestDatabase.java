@@ -0,0 +1,76 @@
+package com.sme.prescreen.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Real Postgres for tests that check the schema or query plans, in a schema of its own that is dropped and
+// recreated on every run. Embedded by default; initdb refuses to run as root (typical CI container), so there
+// TEST_DB_URL / TEST_DB_USER / TEST_DB_PASS must name a server to use instead. Never skipped: no database, no pass.
+final class TestDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres embedded;
+    private final String serverUrl;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private TestDatabase(EmbeddedPostgres embedded, String serverUrl, String schema, String username, String password) {
+        this.embedded = embedded;
+        this.serverUrl = serverUrl;
+        this.jdbcUrl = serverUrl + (serverUrl.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+        this.username = username;
+        this.password = password;
+    }
+
+    static TestDatabase start(String schema) throws IOException, SQLException {
+        TestDatabase database;
+        String externalUrl = System.getenv("TEST_DB_URL");
+        if (externalUrl != null && !externalUrl.isBlank()) {
+            database = new TestDatabase(null, externalUrl, schema,
+                    Objects.requireNonNullElse(System.getenv("TEST_DB_USER"), "postgres"),
+                    Objects.requireNonNullElse(System.getenv("TEST_DB_PASS"), ""));
+        } else {
+            if ("root".equals(System.getProperty("user.name"))) {
+                fail("Embedded Postgres can't start as root (initdb refuses): run the build as a regular user, "
+                        + "or set TEST_DB_URL (and TEST_DB_USER / TEST_DB_PASS) to a Postgres server");
+            }
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            database = new TestDatabase(postgres, postgres.getJdbcUrl("postgres", "postgres"), schema, "postgres", "postgres");
+        }
+
+        try (Connection connection = DriverManager.getConnection(database.serverUrl, database.username, database.password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop schema if exists " + schema + " cascade");
+            statement.execute("create schema " + schema);
+        }
+        return database;
+    }
+
+    // Plain SQL script (several statements allowed) run in the test schema, outside Spring
+    void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> jdbcUrl);
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) embedded.close();
+    }
+}
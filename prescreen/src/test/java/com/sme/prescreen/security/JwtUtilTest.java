@@ -0,0 +1,31 @@
+package com.sme.prescreen.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// There is no default signing secret: an unset (blank) or short one must stop the context from starting
+class JwtUtilTest {
+
+    @Test
+    void rejectsUnsetSecret() {
+        assertThrows(IllegalStateException.class, () -> jwtUtil(""));
+    }
+
+    @Test
+    void rejectsSecretShorterThan32Bytes() {
+        assertThrows(IllegalStateException.class, () -> jwtUtil("a".repeat(31)));
+    }
+
+    @Test
+    void accepts32ByteSecret() {
+        assertDoesNotThrow(() -> jwtUtil("a".repeat(32)));
+    }
+
+    private static JwtUtil jwtUtil(String secret) {
+        return new JwtUtil(secret, Duration.ofMinutes(15), Duration.ofDays(7));
+    }
+}
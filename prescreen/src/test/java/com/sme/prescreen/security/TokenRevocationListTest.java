@@ -0,0 +1,92 @@
+package com.sme.prescreen.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// The Bloom filter only short-cuts "not revoked"; the exact map decides, and expiry rebuilds the filter
+class TokenRevocationListTest {
+
+    private static final int EXPECTED = 64;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TokenRevocationList revocations;
+    private long future;
+
+    @BeforeEach
+    void setUp() {
+        revocations = new TokenRevocationList(jdbcTemplate, registry, EXPECTED);
+        future = System.currentTimeMillis() + 60_000;
+    }
+
+    @Test
+    void filterFalsePositiveFallsBackToExactLookup() {
+        // Fill the filter to its expected size (~1% false positives) and look for an id it wrongly reports
+        for (int i = 0; i < EXPECTED; i++) revocations.remember("revoked-" + i, future);
+
+        String falsePositive = IntStream.range(0, 100_000)
+                .mapToObj(i -> "probe-" + i)
+                .filter(revocations.filter::mightContain)
+                .findFirst()
+                .orElseThrow();
+
+        assertFalse(revocations.isRevoked(falsePositive));
+        for (int i = 0; i < EXPECTED; i++) assertTrue(revocations.isRevoked("revoked-" + i));
+    }
+
+    @Test
+    void syncDropsExpiredIdsAndRebuildsFilter() {
+        revocations.remember("expired", System.currentTimeMillis() - 1);
+        revocations.remember("live", future);
+        TokenRevocationList.BloomFilter before = revocations.filter;
+
+        revocations.sync();
+
+        assertFalse(revocations.isRevoked("expired"));
+        assertFalse(revocations.filter.mightContain("expired"));
+        assertTrue(revocations.isRevoked("live"));
+        assertTrue(revocations.filter != before, "filter should be rebuilt once an id expires");
+        assertEquals(1, registry.get("prescreen.auth.revoked").gauge().value());
+    }
+
+    @Test
+    void syncKeepsFilterWhenNothingExpired() {
+        revocations.remember("live", future);
+        TokenRevocationList.BloomFilter before = revocations.filter;
+
+        revocations.sync();
+
+        assertTrue(revocations.filter == before);
+        assertTrue(revocations.isRevoked("live"));
+    }
+
+    @Test
+    void growsPastExpectedSizeWithoutLosingIds() {
+        for (int i = 0; i < EXPECTED * 3; i++) revocations.remember("revoked-" + i, future);
+
+        assertTrue(revocations.filter.capacity >= EXPECTED * 3);
+        for (int i = 0; i < EXPECTED * 3; i++) assertTrue(revocations.isRevoked("revoked-" + i));
+    }
+
+    @Test
+    void revokeReportsIdAlreadyRevokedElsewhere() {
+        // on conflict do nothing: 0 rows when another instance (or an earlier request) got there first
+        when(jdbcTemplate.update(startsWith("insert"), (Object) any(), (Object) any())).thenReturn(1, 0);
+
+        assertTrue(revocations.revoke("jti", future));
+        assertFalse(revocations.revoke("jti", future));
+        assertTrue(revocations.isRevoked("jti"));
+    }
+}
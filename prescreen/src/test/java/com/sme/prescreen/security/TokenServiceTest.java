@@ -0,0 +1,89 @@
+package com.sme.prescreen.security;
+
+import com.sme.prescreen.domain.entity.User;
+import com.sme.prescreen.domain.enums.UserRole;
+import com.sme.prescreen.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Refresh rotation: every refresh spends the presented token and hands out a new pair; a spent token is refused
+class TokenServiceTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil("test-secret-0123456789-0123456789", Duration.ofMinutes(15), Duration.ofDays(7));
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    // Stands in for revoked_tokens: the insert only counts once per token id
+    private final Set<Object> revokedRows = new HashSet<>();
+    private final User user = User.builder().id(7L).username("STAFF-7").role(UserRole.STAFF).build();
+    private TokenService tokens;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.update(startsWith("insert"), (Object) any(), (Object) any()))
+                .thenAnswer(invocation -> revokedRows.add(invocation.getArgument(1)) ? 1 : 0);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        TokenRevocationList revocations = new TokenRevocationList(jdbcTemplate, new SimpleMeterRegistry(), 1000);
+        tokens = new TokenService(jwtUtil, revocations, userRepository);
+    }
+
+    @Test
+    void refreshRotatesThePair() {
+        TokenService.IssuedTokens first = tokens.issue(user);
+
+        TokenService.IssuedTokens second = tokens.refresh(first.refreshToken());
+        TokenService.IssuedTokens third = tokens.refresh(second.refreshToken());
+
+        assertNotEquals(first.refreshToken(), second.refreshToken());
+        assertNotEquals(second.refreshToken(), third.refreshToken());
+        assertEquals("STAFF-7", jwtUtil.extractUsername(third.accessToken()));
+    }
+
+    @Test
+    void replayedRefreshTokenIsRefused() {
+        TokenService.IssuedTokens issued = tokens.issue(user);
+        tokens.refresh(issued.refreshToken());
+
+        assertThrows(BadCredentialsException.class, () -> tokens.refresh(issued.refreshToken()));
+    }
+
+    @Test
+    void refreshTokenIsDeadAfterLogout() {
+        TokenService.IssuedTokens issued = tokens.issue(user);
+
+        tokens.logout(null, issued.refreshToken());
+
+        assertThrows(BadCredentialsException.class, () -> tokens.refresh(issued.refreshToken()));
+    }
+
+    @Test
+    void accessTokenCannotBeUsedToRefresh() {
+        TokenService.IssuedTokens issued = tokens.issue(user);
+
+        assertThrows(BadCredentialsException.class, () -> tokens.refresh(issued.accessToken()));
+    }
+
+    @Test
+    void removedUserCannotRefresh() {
+        TokenService.IssuedTokens issued = tokens.issue(user);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> tokens.refresh(issued.refreshToken()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.sme.prescreen.service;
+
+import com.sme.prescreen.domain.dto.ImportResultDto;
+import com.sme.prescreen.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// A bad row is reported with its line and left out; the rest of its chunk is still written, in one batch
+class ApplicationImportServiceTest {
+
+    private static final String HEADER = "S.No.,Applicant ID,Applicant's Industry,Loan Amount Requested,Loan Category,"
+            + "Applicant's Category,Income Document Submitted,KYC Submitted,Business Proof Submitted\n";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    // LOS ids of each application batch written
+    private final List<List<String>> batches = new ArrayList<>();
+    private ApplicationImportService importService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(startsWith("select nextval"), eq(Long.class), (Object) any()))
+                .thenAnswer(invocation -> {
+                    int count = invocation.getArgument(2);
+                    List<Long> ids = new ArrayList<>();
+                    for (long id = 1; id <= count; id++) ids.add(id);
+                    return ids;
+                });
+        when(jdbcTemplate.batchUpdate(startsWith("insert into applications"), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    // Rows are private to the service; read each one's LOS id back through the statement setter
+                    ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+                    List<String> losIds = new ArrayList<>();
+                    for (Object row : invocation.<List<Object>>getArgument(1)) {
+                        PreparedStatement ps = mock(PreparedStatement.class);
+                        setter.setValues(ps, row);
+                        ArgumentCaptor<String> losId = ArgumentCaptor.forClass(String.class);
+                        verify(ps).setString(eq(10), losId.capture());
+                        losIds.add(losId.getValue());
+                    }
+                    batches.add(losIds);
+                    return new int[0][];
+                });
+
+        importService = new ApplicationImportService(mock(ApplicationService.class), userRepository, jdbcTemplate,
+                transactionTemplate, mock(ApplicationStatsService.class));
+        ReflectionTestUtils.setField(importService, "batchSize", 5000);
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 1000);
+    }
+
+    @Test
+    void badRowsAreSkippedWithoutAbortingTheirChunk() throws IOException {
+        ImportResultDto result = importCsv(HEADER
+                + "1,SMEServ1,Services,1000000,SME,Large,Yes,Yes,Yes\n"
+                + "2,SMETrad2,Trading,lots,SME,Medium,No,No,No\n"
+                + "3,\"SMEManu\"3,Manufacturing,2000000,SME,Small,Yes,No,Yes\n"
+                + "4,SMEServ4,Services,3000000,SME,Huge,Yes,Yes,Yes\n"
+                + "5,SMETrad5,Trading,4500000,SME,Medium,No,Yes,No\n");
+
+        assertEquals(5, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(3L, 4L, 5L), result.getErrors().stream().map(ImportResultDto.RowError::getLine).toList());
+        assertEquals(List.of("Invalid loan amount: lots", "Unexpected character after closing quote",
+                        "Unknown applicant category: Huge"),
+                result.getErrors().stream().map(ImportResultDto.RowError::getMessage).toList());
+        assertEquals(List.of(List.of("SMEServ1", "SMETrad5")), batches);
+    }
+
+    private ImportResultDto importCsv(String csv) throws IOException {
+        return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), 1L);
+    }
+}
@@ -0,0 +1,110 @@
+package com.sme.prescreen.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// RFC 4180 quoting, both line endings, malformed records that don't stop the stream, and the 64K refill boundary
+class CsvReaderTest {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Test
+    void quotedFieldKeepsCommas() throws IOException {
+        List<CsvReader.Record> records = read("a,\"b,c\",d\n");
+
+        assertEquals(List.of("a", "b,c", "d"), records.get(0).fields());
+        assertNull(records.get(0).error());
+    }
+
+    @Test
+    void doubledQuoteIsOneQuote() throws IOException {
+        List<CsvReader.Record> records = read("\"say \"\"hi\"\"\",\"\"\"\"\n");
+
+        assertEquals(List.of("say \"hi\"", "\""), records.get(0).fields());
+    }
+
+    @Test
+    void quotedFieldKeepsLineBreaks() throws IOException {
+        List<CsvReader.Record> records = read("\"one\r\ntwo\",x\n\"three\nfour\",y\n");
+
+        assertEquals(List.of("one\r\ntwo", "x"), records.get(0).fields());
+        assertEquals(List.of("three\nfour", "y"), records.get(1).fields());
+    }
+
+    @Test
+    void crlfAndLfEndRecordsAlike() throws IOException {
+        List<CsvReader.Record> crlf = read("a,b\r\nc,d\r\ne,f\r\n");
+        List<CsvReader.Record> lf = read("a,b\nc,d\ne,f\n");
+        List<CsvReader.Record> mixed = read("a,b\r\nc,d\ne,f");
+
+        for (List<CsvReader.Record> records : List.of(crlf, lf, mixed)) {
+            assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e", "f")), fields(records));
+            assertEquals(List.of(1L, 2L, 3L), lines(records));
+        }
+    }
+
+    @Test
+    void unterminatedQuoteRunsToEndOfInput() throws IOException {
+        List<CsvReader.Record> records = read("a,b\nc,\"open\nd,e\n");
+
+        assertEquals(2, records.size());
+        assertNull(records.get(0).error());
+        assertEquals(List.of("c", "open\nd,e\n"), records.get(1).fields());
+        assertEquals("Unterminated quoted field", records.get(1).error());
+    }
+
+    @Test
+    void textAfterClosingQuoteIsReportedAndReadingGoesOn() throws IOException {
+        List<CsvReader.Record> records = read("\"ab\"c,d\nx,y\n");
+
+        assertEquals(List.of("abc", "d"), records.get(0).fields());
+        assertEquals("Unexpected character after closing quote", records.get(0).error());
+        assertEquals(List.of("x", "y"), records.get(1).fields());
+        assertNull(records.get(1).error());
+    }
+
+    @Test
+    void lineNumbersCountBreaksInsideQuotedFields() throws IOException {
+        List<CsvReader.Record> records = read("h1,h2\n\"1\n2\n3\",x\r\n\"4\r\n5\",y\nlast,z\n");
+
+        assertEquals(List.of(1L, 2L, 5L, 7L), lines(records));
+    }
+
+    @Test
+    void recordsSpanningTheBufferBoundary() throws IOException {
+        // Moves the refill point across every character of the quoted record: opening quote, doubled quote, CR / LF
+        String record = "\"a\"\"b\r\nc\",z\r\n";
+        for (int shift = 0; shift <= record.length(); shift++) {
+            String filler = "f".repeat(BUFFER_SIZE - shift - 1);
+            List<CsvReader.Record> records = read(filler + "\n" + record + "next,1\n");
+
+            assertEquals(List.of(List.of(filler), List.of("a\"b\r\nc", "z"), List.of("next", "1")), fields(records),
+                    "refill " + shift + " chars into the record");
+            assertEquals(List.of(1L, 2L, 4L), lines(records));
+        }
+    }
+
+    private static List<CsvReader.Record> read(String csv) throws IOException {
+        List<CsvReader.Record> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            CsvReader.Record record;
+            while ((record = reader.next()) != null) records.add(record);
+        }
+        return records;
+    }
+
+    private static List<List<String>> fields(List<CsvReader.Record> records) {
+        return records.stream().map(CsvReader.Record::fields).toList();
+    }
+
+    private static List<Long> lines(List<CsvReader.Record> records) {
+        return records.stream().map(CsvReader.Record::line).toList();
+    }
+}
@@ -0,0 +1,166 @@
+package com.sme.prescreen.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Connection caps (overall and per user), shutdown, and writes that happen off the publisher's thread
+class SseRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void capsConnectionsPerUser() {
+        SseRegistry<Long> registry = new SseRegistry<>("test", meterRegistry, 60_000, 100, 2);
+        registry.subscribe(1L, 7L);
+        registry.subscribe(2L, 7L);
+
+        assertThrows(TooManyStreamsException.class, () -> registry.subscribe(3L, 7L));
+        assertDoesNotThrow(() -> registry.subscribe(3L, 8L));
+        assertEquals(3, connections());
+    }
+
+    @Test
+    void capsConnectionsOverall() {
+        SseRegistry<Long> registry = new SseRegistry<>("test", meterRegistry, 60_000, 2, 10);
+        registry.subscribe(1L, 7L);
+        registry.subscribe(1L, 8L);
+
+        assertThrows(StreamCapacityException.class, () -> registry.subscribe(1L, 9L));
+        assertEquals(2, connections());
+    }
+
+    @Test
+    void closedConnectionFreesTheUsersSlot() {
+        SseRegistry<Long> registry = new SseRegistry<>("test", meterRegistry, 60_000, 100, 1);
+        SseEmitter emitter = registry.subscribe(1L, 7L);
+
+        emitter.complete();
+        registry.send(1L, "comment", "{}");   // the failed write drops the connection
+
+        awaitUntil(() -> connections() == 0);
+        assertDoesNotThrow(() -> registry.subscribe(1L, 7L));
+        assertEquals(1, connections());
+    }
+
+    @Test
+    void shutdownCompletesOpenStreams() {
+        SseRegistry<Long> registry = new SseRegistry<>("test", meterRegistry, 60_000, 100, 10);
+        SseEmitter emitter = registry.subscribe(1L, 7L);
+
+        registry.shutdown();
+
+        awaitUntil(() -> {
+            try {
+                emitter.send("late");
+                return false;
+            } catch (IllegalStateException | IOException e) {
+                return true;
+            }
+        });
+    }
+
+    @Test
+    void blockedClientHoldsUpNeitherThePublisherNorOtherClients() {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(unblock);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        Queue<SseEmitter> emitters = new ArrayDeque<>(List.of(stalled, healthy));
+        SseRegistry<Long> registry = new SseRegistry<>("test", meterRegistry, 60_000, 100, 10) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitters.remove();
+            }
+        };
+        registry.subscribe(1L, 7L);   // its writer blocks on the "connected" comment
+        registry.subscribe(1L, 8L);
+
+        List<String> published = IntStream.rangeClosed(1, SseRegistry.MAX_QUEUED_EVENTS + 1)
+                .mapToObj(n -> "{\"n\":" + n + "}")
+                .toList();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> published.forEach(json -> registry.send(1L, "comment", json)));
+
+        awaitUntil(() -> healthy.payloads.size() == published.size());
+        assertEquals(published, healthy.payloads);
+        // The stalled client fell MAX_QUEUED_EVENTS behind and was dropped; nothing reached it
+        assertEquals(1, connections());
+        assertEquals(1, meterRegistry.get("prescreen.sse.dropped").counter().count());
+        assertEquals(List.of(), stalled.payloads);
+
+        unblock.countDown();
+        awaitUntil(() -> {
+            try {
+                stalled.send(SseEmitter.event().comment("late"));
+                return false;
+            } catch (IllegalStateException | IOException e) {
+                return true;
+            }
+        });
+    }
+
+    private double connections() {
+        return meterRegistry.get("prescreen.sse.connections").gauge().value();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not met within 5s");
+            Thread.onSpinWait();
+        }
+    }
+
+    // Records JSON payloads in the order written; with a latch, the first write never returns until it is released,
+    // like a client whose socket buffer is full
+    private static final class RecordingEmitter extends SseEmitter {
+
+        final List<String> payloads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch unblock;
+        private boolean completed;
+
+        RecordingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (unblock != null) {
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            synchronized (this) {
+                if (completed) throw new IllegalStateException("already completed");
+            }
+            builder.build().stream()
+                    .filter(part -> MediaType.APPLICATION_JSON.equals(part.getMediaType()))
+                    .forEach(part -> payloads.add((String) part.getData()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.sme.prescreen.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sme.prescreen.domain.dto.EligibilityResult;
+import com.sme.prescreen.domain.entity.Application;
+import com.sme.prescreen.domain.enums.EligibilityStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// compile() precedence: defaults <- (band, *) <- (*, type) <- (band, type), plus hot reload keeping the old rules on a bad file
+class RuleBasedEligibilityServiceTest {
+
+    // minYearsInBusiness is the only threshold that varies, so the chain's BUSINESS_TOO_NEW rule reveals which level won
+    private static final String RULES = """
+            {
+              "version": "test-1",
+              "defaults": { "minYearsInBusiness": 1, "minLoanAmount": 50000 },
+              "overrides": [
+                { "turnoverBand": "0-50L", "minYearsInBusiness": 2 },
+                { "businessType": "PVT_LTD", "minYearsInBusiness": 3, "minLoanAmount": 100000 },
+                { "turnoverBand": "1Cr+", "businessType": "LLP", "minYearsInBusiness": 5 }
+              ]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void defaultsApplyWithoutMatchingOverride() throws IOException {
+        RuleBasedEligibilityService.CompiledRules rules = compile(RULES);
+
+        assertEquals(1, minYears(rules, "50L-1Cr", "PROPRIETORSHIP"));
+    }
+
+    @Test
+    void bandOnlyOverride() throws IOException {
+        assertEquals(2, minYears(compile(RULES), "0-50L", "PROPRIETORSHIP"));
+    }
+
+    @Test
+    void typeOnlyOverride() throws IOException {
+        assertEquals(3, minYears(compile(RULES), "50L-1Cr", "PVT_LTD"));
+    }
+
+    @Test
+    void typeOnlyOverridesBandOnlyWhenBothMatch() throws IOException {
+        RuleBasedEligibilityService.CompiledRules rules = compile(RULES);
+
+        // (0-50L, *) and (*, PVT_LTD) both apply, no exact entry: type-only is more specific, and its other fields survive
+        assertEquals(3, minYears(rules, "0-50L", "PVT_LTD"));
+        assertEquals(EligibilityStatus.INELIGIBLE, evaluate(rules, "0-50L", "PVT_LTD", 10, 60_000).getStatus());
+    }
+
+    @Test
+    void exactOverrideWinsAndInheritsTheRest() throws IOException {
+        RuleBasedEligibilityService.CompiledRules rules = compile(RULES);
+
+        assertEquals(5, minYears(rules, "1Cr+", "LLP"));
+        // minLoanAmount still comes from the defaults
+        assertEquals(List.of("LOAN_AMOUNT_TOO_LOW"), evaluate(rules, "1Cr+", "LLP", 6, 10_000).getReasons());
+    }
+
+    @Test
+    void exactOverrideBandWithOtherTypeFallsBack() throws IOException {
+        RuleBasedEligibilityService.CompiledRules rules = compile(RULES);
+
+        assertEquals(1, minYears(rules, "1Cr+", "PROPRIETORSHIP"));
+        assertEquals(3, minYears(rules, "1Cr+", "PVT_LTD"));
+    }
+
+    @Test
+    void nullBandOrType() throws IOException {
+        RuleBasedEligibilityService.CompiledRules rules = compile(RULES);
+
+        assertEquals(1, minYears(rules, null, null));
+        assertEquals(2, minYears(rules, "0-50L", null));
+        assertEquals(3, minYears(rules, null, "PVT_LTD"));
+        assertEquals(1, minYears(rules, null, "LLP"));
+    }
+
+    @Test
+    void rejectsMissingVersionAndWildcardOverride() {
+        assertThrows(IllegalStateException.class, () -> compile("{ \"defaults\": {} }"));
+        assertThrows(IllegalStateException.class,
+                () -> compile("{ \"version\": \"x\", \"overrides\": [ { \"minYearsInBusiness\": 2 } ] }"));
+    }
+
+    @Test
+    void hotReloadKeepsPreviousRulesOnBadFileAndPicksUpTheNextGoodOne(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("rules.json");
+        Files.writeString(file, RULES);
+        RuleBasedEligibilityService service =
+                new RuleBasedEligibilityService(new DefaultResourceLoader(), objectMapper, file.toUri().toString());
+        service.init();
+
+        write(file, "{ \"version\": \"test-2\", \"overrides\": [ ", 1);
+        service.reloadIfChanged();
+        assertEquals("test-1", service.getRuleVersion());
+        assertEquals(EligibilityStatus.ELIGIBLE, service.evaluate(application("0-50L", "PROPRIETORSHIP", 2, 60_000)).getStatus());
+
+        write(file, RULES.replace("test-1", "test-3"), 2);
+        service.reloadIfChanged();
+        assertEquals("test-3", service.getRuleVersion());
+    }
+
+    private RuleBasedEligibilityService.CompiledRules compile(String json) throws IOException {
+        return RuleBasedEligibilityService.compile(objectMapper.readValue(json, EligibilityRuleSet.class));
+    }
+
+    // Smallest yearsInBusiness that passes BUSINESS_TOO_NEW for this profile
+    private static int minYears(RuleBasedEligibilityService.CompiledRules rules, String band, String type) {
+        RuleBasedEligibilityService.Rule rule = Arrays.stream(rules.chainFor(band, type))
+                .filter(r -> r.reason().equals("BUSINESS_TOO_NEW"))
+                .findFirst()
+                .orElseThrow();
+        for (int years = 0; years < 100; years++) {
+            if (rule.check().test(application(band, type, years, 0))) return years;
+        }
+        throw new AssertionError("No passing value");
+    }
+
+    private static EligibilityResult evaluate(RuleBasedEligibilityService.CompiledRules rules,
+                                              String band, String type, int years, long amount) {
+        Application app = application(band, type, years, amount);
+        List<String> reasons = Arrays.stream(rules.chainFor(band, type))
+                .filter(r -> !r.check().test(app))
+                .map(RuleBasedEligibilityService.Rule::reason)
+                .toList();
+        return EligibilityResult.builder()
+                .status(reasons.isEmpty() ? EligibilityStatus.ELIGIBLE : EligibilityStatus.INELIGIBLE)
+                .reasons(reasons)
+                .build();
+    }
+
+    private static Application application(String band, String type, int years, long amount) {
+        return Application.builder()
+                .applicantName("Test Traders")
+                .turnoverBand(band)
+                .businessType(type)
+                .yearsInBusiness(years)
+                .requestedLoanAmount(BigDecimal.valueOf(amount))
+                .build();
+    }
+
+    // Bumps the mtime so the reload sees a change even within the filesystem's timestamp resolution
+    private static void write(Path file, String content, int step) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + step * 10_000L));
+    }
+}
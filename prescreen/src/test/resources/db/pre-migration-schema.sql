@@ -0,0 +1,54 @@
+-- Schema of the last release without migrations, exactly as its spring.jpa.hibernate.ddl-auto=update generated it
+-- (Hibernate schema script from that build). Frozen: SchemaUpgradeTest upgrades it, independently of V1.
+
+    create table application_comments (
+        application_id bigint not null,
+        created_at timestamp(6) with time zone,
+        id bigint generated by default as identity,
+        message varchar(1000) not null,
+        author_name varchar(255) not null,
+        author_role varchar(255) not null,
+        primary key (id)
+    );
+
+    create table application_documents (
+        application_id bigint not null,
+        id bigint generated by default as identity,
+        uploaded_at timestamp(6) with time zone,
+        doc_type varchar(255) not null check (doc_type in ('BUSINESS_PAN','OWNER_PAN','OWNER_AADHAAR','BUSINESS_ADDRESS_PROOF','PNL_3Y','BALANCE_SHEET_3Y','ITR_3Y','BANK_STATEMENT_6_12M','BUSINESS_REGISTRATION','CIN','BOARD_OF_DIRECTORS_LIST')),
+        file_path varchar(255) not null,
+        status varchar(255) not null check (status in ('UPLOADED','VERIFIED','REJECTED')),
+        primary key (id)
+    );
+
+    create table applications (
+        locked_by_staff boolean not null,
+        requested_loan_amount numeric(15,2) not null,
+        years_in_business integer not null,
+        created_at timestamp(6) with time zone,
+        id bigint generated by default as identity,
+        owner_id bigint not null,
+        updated_at timestamp(6) with time zone,
+        applicant_name varchar(255) not null,
+        business_type varchar(255) not null,
+        eligibility_status varchar(255) not null check (eligibility_status in ('ELIGIBLE','INELIGIBLE','PENDING')),
+        los_application_id varchar(255),
+        pre_screen_result varchar(255) not null check (pre_screen_result in ('READY','BLOCKED_MISSING_DOCS','BLOCKED_INELIGIBLE')),
+        turnover_band varchar(255) not null,
+        primary key (id)
+    );
+
+    create table users (
+        id bigint generated by default as identity,
+        email varchar(255) not null unique,
+        full_name varchar(255) not null,
+        password varchar(255) not null,
+        role varchar(255) check (role in ('APPLICANT','STAFF')),
+        username varchar(255) not null unique,
+        primary key (id)
+    );
+
+    alter table if exists application_documents 
+       add constraint FKmn7jx61bon49nk5y29jp5hu5n 
+       foreign key (application_id) 
+       references applications;